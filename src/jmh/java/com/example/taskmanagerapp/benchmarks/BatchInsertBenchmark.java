@@ -0,0 +1,80 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.models.TaskModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Scores are per task, so row-at-a-time and batched inserts compare directly. chunkSize plays task.batch.chunk-size:
+// each chunk is one saveTasks call, like POST /api/v1/tasks/batch makes
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+    private static final int TASKS = 1000;
+
+    @Param({"50", "500", "1000"})
+    public int chunkSize;
+
+    private BenchmarkDatabase database;
+    private LocalDate dueDate;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("batch_insert");
+        dueDate = LocalDate.now().plusDays(1);
+    }
+
+    // Keeps the table from growing across iterations
+    @Setup(Level.Iteration)
+    public void truncate() {
+        database.truncate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void singleInserts() {
+        for (int i = 0; i < TASKS; i++) {
+            TaskModel task = BenchmarkDatabase.newTask(i, dueDate);
+            database.repository.saveTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus().name(), task.getDueDate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public int batchInsert() {
+        List<TaskModel> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(BenchmarkDatabase.newTask(i, dueDate));
+        }
+        int saved = 0;
+        for (int from = 0; from < TASKS; from += chunkSize) {
+            saved += database.repository.saveTasks(tasks.subList(from, Math.min(from + chunkSize, TASKS)));
+        }
+        return saved;
+    }
+}
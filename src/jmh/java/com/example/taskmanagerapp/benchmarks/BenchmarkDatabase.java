@@ -0,0 +1,85 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.IdStorage;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.JdbcTaskRepository;
+import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Embedded H2 with the application's schema, wired to a plain JdbcTaskRepository without a Spring context
+final class BenchmarkDatabase {
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    final SingleConnectionDataSource dataSource;
+    final JdbcTemplate jdbcTemplate;
+    final JdbcTaskRepository repository;
+
+    BenchmarkDatabase(String name) throws Exception {
+        this("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", IdStorage.VARCHAR);
+    }
+
+    BenchmarkDatabase(String url, IdStorage idStorage) throws Exception {
+        dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+        Connection connection = dataSource.getConnection();
+        String schema = idStorage == IdStorage.UUID ? "schema-uuid.sql" : "schema.sql";
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource(schema));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new JdbcTaskRepository();
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "idStorage", idStorage);
+        ReflectionTestUtils.setField(repository, "taskMetrics", new TaskMetrics(new SimpleMeterRegistry()));
+    }
+
+    // Due dates are spread over a year so (due_date, id) ordering has plenty of ties to break
+    void insertTasks(int count) {
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<TaskModel> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            chunk.add(newTask(i, start.plusDays(i % 365)));
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                repository.saveTasks(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            repository.saveTasks(chunk);
+        }
+    }
+
+    void truncate() {
+        jdbcTemplate.update("TRUNCATE TABLE task");
+        jdbcTemplate.update("UPDATE task_counter SET live_count = 0");
+    }
+
+    // Pages used by the table and all of its indexes
+    long diskSpaceUsed() {
+        return jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('TASK')", Long.class);
+    }
+
+    void close() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    static TaskModel newTask(int i, LocalDate dueDate) {
+        TaskModel task = new TaskModel();
+        task.setId(IdGeneratorUtil.generateId());
+        task.setTitle("Task " + i);
+        task.setDescription("Description of task " + i);
+        task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.codec.TaskBinaryCodec;
+import com.example.taskmanagerapp.config.JacksonConfig;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// One page response through the MVC JSON mapper vs the binary task format, both ways. JSON is decoded into a
+// client-side record, as a Java client without the DTOs would. Setup prints the payload size of each
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryEncodingBenchmark {
+
+    public record JsonTask(String id, String title, String description, String status, LocalDate dueDate, long version) {
+    }
+
+    public record JsonPage(List<JsonTask> tasks, boolean hasMore, long total, int page, int size) {
+    }
+
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"100"})
+    public int pageSize;
+
+    @Param({"20", "200"})
+    public int descriptionLength;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build();
+    private PaginatedTaskResponseDTO page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<TaskResponseDTO> tasks = new ArrayList<>(pageSize);
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < pageSize; i++) {
+            TaskModel task = BenchmarkDatabase.newTask(i, start.plusDays(i));
+            task.setDescription("x".repeat(descriptionLength));
+            task.setVersion(i + 1);
+            tasks.add(TaskDtoMapper.toResponseDto(task));
+        }
+        page = new PaginatedTaskResponseDTO(tasks, true, 10_000, 0, pageSize);
+        encoded = encode();
+        System.out.printf("%n%s, %d-char descriptions: %,d bytes per %d-task page%n",
+                format, descriptionLength, encoded.length, pageSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return format.equals("json") ? objectMapper.writeValueAsBytes(page) : TaskBinaryCodec.encode(page, TaskFields.ALL);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return format.equals("json") ? objectMapper.readValue(encoded, JsonPage.class) : TaskBinaryCodec.decodePage(encoded);
+    }
+}
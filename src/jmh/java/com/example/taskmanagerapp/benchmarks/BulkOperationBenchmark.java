@@ -0,0 +1,102 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Setting a status on, or deleting, IDS tasks one call at a time vs one set-based statement. Scores are per task.
+// Deleted rows are brought back before every invocation, so the ids are always live; at 100 and 1000 tasks an
+// invocation runs well above the millisecond where JMH's per-invocation setup stops skewing the timing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkOperationBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int IDS = 1000;
+
+    private BenchmarkDatabase database;
+    private List<String> ids;
+    private TaskPatch[] statusPatches;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("bulk_operation");
+        database.insertTasks(ROWS);
+        ids = database.jdbcTemplate.queryForList("SELECT id FROM task ORDER BY id LIMIT " + IDS, String.class);
+        TaskStatus[] statuses = TaskStatus.values();
+        statusPatches = new TaskPatch[statuses.length];
+        for (int i = 0; i < statuses.length; i++) {
+            statusPatches[i] = new TaskPatch();
+            statusPatches[i].setStatus(statuses[i]);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void revive() {
+        database.jdbcTemplate.update("UPDATE task SET is_deleted = false, deleted_at = NULL WHERE is_deleted = true");
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDS)
+    public int singleStatusPatches() {
+        TaskPatch patch = nextStatus();
+        int patched = 0;
+        for (String id : ids) {
+            TaskModel task = database.repository.patchTask(id, patch, null);
+            patched += task != null ? 1 : 0;
+        }
+        return patched;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDS)
+    public int bulkStatusUpdate() {
+        return database.repository.updateTasksStatus(ids, nextStatus().getStatus().name());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDS)
+    public int singleDeletes() {
+        int deleted = 0;
+        for (String id : ids) {
+            deleted += database.repository.deleteTask(id) ? 1 : 0;
+        }
+        return deleted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDS)
+    public int bulkDelete() {
+        return database.repository.deleteTasks(ids);
+    }
+
+    private TaskPatch nextStatus() {
+        return statusPatches[next++ % statusPatches.length];
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.config.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// More threads than connections, each holding a connection for holdMillis like a request's transaction would, with and
+// without the bulkhead in front of Hikari. Both wait up to TIMEOUT_MILLIS; the p99 comes from the sample-time
+// percentiles, and the share of calls that timed out is printed when the trial ends
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class BulkheadBenchmark {
+    private static final int POOL_SIZE = 8;
+    private static final long TIMEOUT_MILLIS = 500;
+
+    @Param({"false", "true"})
+    private boolean bulkhead;
+
+    @Param({"5"})
+    private long holdMillis;
+
+    private HikariDataSource pool;
+    private DataSource dataSource;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    @Setup
+    public void setUp() throws Exception {
+        new BenchmarkDatabase("bulkhead").insertTasks(1000);
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(POOL_SIZE);
+        pool.setMinimumIdle(POOL_SIZE);
+        pool.setConnectionTimeout(TIMEOUT_MILLIS);
+        dataSource = bulkhead ? new BulkheadDataSource(pool, POOL_SIZE, TIMEOUT_MILLIS) : pool;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("bulkhead=%s: %d of %d calls timed out (%.2f%%)%n", bulkhead, failures.get(), calls.get(),
+                100.0 * failures.get() / Math.max(1, calls.get()));
+        pool.close();
+    }
+
+    @Benchmark
+    public int request() throws InterruptedException {
+        calls.incrementAndGet();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT id, title, due_date FROM task WHERE is_deleted = FALSE AND due_date >= ? " +
+                             "ORDER BY is_deleted ASC, due_date ASC, id ASC LIMIT 20")) {
+            statement.setObject(1, LocalDate.now());
+            int rows = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            Thread.sleep(holdMillis);
+            return rows;
+        } catch (SQLException e) {
+            failures.incrementAndGet();
+            return -1;
+        }
+    }
+}
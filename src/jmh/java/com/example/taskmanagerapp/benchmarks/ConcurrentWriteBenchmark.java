@@ -0,0 +1,97 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.IdStorage;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.JdbcTaskRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Creates and updates from several threads, each in its own transaction on a pooled connection like a request would
+// run them. Every write also bumps the live and change counters in the same transaction, so this shows how much those
+// counters serialize writers. Run with -t 1 for the uncontended rate
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConcurrentWriteBenchmark {
+    private static final int TASKS = 100_000;
+
+    private HikariDataSource dataSource;
+    private JdbcTaskRepository repository;
+    private TransactionTemplate transactionTemplate;
+    private List<String> ids;
+    private LocalDate dueDate;
+
+    @Setup
+    public void setUp() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:concurrent_writes;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(8);
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+        }
+        repository = new JdbcTaskRepository();
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", new JdbcTemplate(dataSource));
+        ReflectionTestUtils.setField(repository, "idStorage", IdStorage.VARCHAR);
+        ReflectionTestUtils.setField(repository, "taskMetrics", new TaskMetrics(new SimpleMeterRegistry()));
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        dueDate = LocalDate.now().plusDays(1);
+        List<TaskModel> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(BenchmarkDatabase.newTask(i, dueDate));
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.saveTasks(tasks));
+        ids = tasks.stream().map(TaskModel::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public TaskModel create() {
+        TaskModel task = BenchmarkDatabase.newTask(0, dueDate);
+        return transactionTemplate.execute(status -> repository.saveTask(task.getId(), task.getTitle(),
+                task.getDescription(), task.getStatus().name(), task.getDueDate()));
+    }
+
+    // Random tasks out of TASKS, so two threads rarely update the same row
+    @Benchmark
+    public TaskModel update() {
+        String id = ids.get(ThreadLocalRandom.current().nextInt(TASKS));
+        return transactionTemplate.execute(status -> repository.updateTask(id, "Updated", null, "IN_PROGRESS", dueDate));
+    }
+}
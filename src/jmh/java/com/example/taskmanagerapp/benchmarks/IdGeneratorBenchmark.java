@@ -0,0 +1,33 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Benchmark
+    public String generateId() {
+        return IdGeneratorUtil.generateId();
+    }
+
+    // Request threads share the generator, so also measure it under contention
+    @Benchmark
+    @Threads(4)
+    public String generateIdContended() {
+        return IdGeneratorUtil.generateId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.IdStorage;
+import com.example.taskmanagerapp.enums.IdStrategy;
+import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Loads a fresh file-backed table per id strategy and key storage; the score is the time to insert all rows,
+// and the teardown prints rows/s and the on-disk size of the table with its indexes
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class IdKeyBenchmark {
+    private static final Path DATABASE_DIR = Path.of("target", "jmh-id-key");
+
+    @Param({"UUID_V4", "UUID_V7"})
+    public IdStrategy strategy;
+
+    @Param({"VARCHAR", "UUID"})
+    public IdStorage storage;
+
+    @Param({"10000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private long startNanos;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        IdGeneratorUtil.setStrategy(strategy);
+        String name = strategy + "_" + storage;
+        Files.createDirectories(DATABASE_DIR);
+        Files.deleteIfExists(DATABASE_DIR.resolve(name + ".mv.db"));
+        database = new BenchmarkDatabase("jdbc:h2:file:" + DATABASE_DIR.toAbsolutePath().resolve(name), storage);
+        startNanos = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        database.jdbcTemplate.execute("CHECKPOINT SYNC");
+        System.out.printf("%n%s/%s: %d rows, %.0f rows/s, %.1f MB on disk%n",
+            strategy, storage, rows, rows / seconds, database.diskSpaceUsed() / 1024.0 / 1024.0);
+        database.close();
+    }
+
+    @Benchmark
+    public void insertAll() {
+        database.insertTasks(rows);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.config.JacksonConfig;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaginatedSerializationBenchmark {
+    @Param({"20", "100"})
+    public int pageSize;
+
+    // Same builder defaults Spring Boot uses for the MVC message converter
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build();
+    private PaginatedTaskResponseDTO page;
+
+    @Setup
+    public void setUp() {
+        List<TaskResponseDTO> tasks = new ArrayList<>(pageSize);
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(TaskDtoMapper.toResponseDto(BenchmarkDatabase.newTask(i, start.plusDays(i))));
+        }
+        page = new PaginatedTaskResponseDTO(tasks, true, 10_000, 0, pageSize);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.IdStorage;
+import com.example.taskmanagerapp.models.TaskModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Offset pagination cost grows with page depth, keyset pagination should stay flat
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationDepthBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"200000"})
+    public int rows;
+
+    @Param({"0", "100", "5000"})
+    public int page;
+
+    private BenchmarkDatabase database;
+    private TaskModel lastSeen;
+
+    @Setup
+    public void setUp() throws Exception {
+        // H2 otherwise hands back the cached result of an identical query on an unchanged table, and every call here repeats one
+        database = new BenchmarkDatabase("jdbc:h2:mem:pagination_depth;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", IdStorage.VARCHAR);
+        database.insertTasks(rows);
+        // The last row of the previous page is what a client's cursor would point at
+        lastSeen = page == 0 ? new TaskModel() : database.repository.selectAllTasksPaginated(1, page * PAGE_SIZE - 1).get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<TaskModel> offset() {
+        return database.repository.selectAllTasksPaginated(PAGE_SIZE, page * PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TaskModel> keyset() {
+        return database.repository.selectTasksAfter(lastSeen.getDueDate(), lastSeen.getId(), PAGE_SIZE);
+    }
+}
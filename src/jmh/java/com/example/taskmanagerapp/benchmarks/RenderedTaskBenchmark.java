@@ -0,0 +1,90 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.cache.RenderedTask;
+import com.example.taskmanagerapp.cache.TaskCache;
+import com.example.taskmanagerapp.config.JacksonConfig;
+import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// A hot GET /{id} after the first read: a task cache hit mapped to the DTO and serialized into the response stream,
+// vs a rendered body cache hit copied into it. The response is a reused buffer standing in for the servlet stream
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderedTaskBenchmark {
+
+    @Param({"100", "4000"})
+    public int descriptionLength;
+
+    @Param({"1000"})
+    public int hotTasks;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build();
+    private final ByteArrayOutputStream response = new ByteArrayOutputStream(8192);
+    private final Map<String, TaskModel> store = new HashMap<>();
+    private TaskCache taskCache;
+    private String[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        taskCache = new TaskCache(hotTasks, 64L << 20);
+        ids = new String[hotTasks];
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int i = 0; i < hotTasks; i++) {
+            TaskModel task = BenchmarkDatabase.newTask(i, start.plusDays(i % 365));
+            task.setDescription("x".repeat(descriptionLength));
+            task.setVersion(1);
+            store.put(task.getId(), task);
+            ids[i] = task.getId();
+        }
+    }
+
+    private RenderedTask render(String id) {
+        try {
+            TaskModel task = taskCache.get(id, store::get);
+            return new RenderedTask(task.getVersion(), objectMapper.writeValueAsBytes(TaskDtoMapper.toResponseDto(task)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public int serialized() throws IOException {
+        TaskModel task = taskCache.get(ids[next++ % hotTasks], store::get);
+        response.reset();
+        objectMapper.writeValue(response, TaskDtoMapper.toResponseDto(task));
+        return response.size();
+    }
+
+    @Benchmark
+    public int rendered() {
+        RenderedTask rendered = taskCache.getRendered(ids[next++ % hotTasks], this::render);
+        response.reset();
+        response.write(rendered.getBody(), 0, rendered.getBody().length);
+        return response.size();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.models.TaskModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowMappingBenchmark {
+    private static final String SELECT_FIRST_TASKS = "SELECT id, title, description, status, due_date, version FROM task WHERE is_deleted = false ORDER BY is_deleted ASC, due_date ASC, id ASC LIMIT ?";
+
+    @Param({"20", "1000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("row_mapping");
+        database.insertTasks(rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    // The repository's own path: TaskRowMapper reading columns by index
+    @Benchmark
+    public List<TaskModel> taskRowMapper() {
+        return database.repository.selectTasksAfter(null, null, rows);
+    }
+
+    // Generic column map per row, as a reference for what name-based mapping costs
+    @Benchmark
+    public List<Map<String, Object>> columnMap() {
+        return database.jdbcTemplate.queryForList(SELECT_FIRST_TASKS, rows);
+    }
+}
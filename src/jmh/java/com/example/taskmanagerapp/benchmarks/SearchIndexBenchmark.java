@@ -0,0 +1,94 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.search.SearchResult;
+import com.example.taskmanagerapp.search.TaskSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Query latency against a large index: a rare term, the most common term (longest posting list) and a mixed query.
+// Words are drawn with a skewed distribution so a few terms appear in a large share of the tasks
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+    private static final int VOCABULARY = 50_000;
+
+    @Param({"1000000"})
+    public int tasks;
+
+    @Param({"rare", "common", "mixed"})
+    public String query;
+
+    private TaskSearchIndex index;
+    private String text;
+    private int updates;
+
+    @Setup
+    public void setUp() {
+        index = new TaskSearchIndex();
+        Random random = new Random(42);
+        List<TaskModel> chunk = new ArrayList<>(10_000);
+        for (int i = 0; i < tasks; i++) {
+            TaskModel task = new TaskModel();
+            task.setId("task-" + i);
+            task.setTitle(words(random, 4));
+            task.setDescription(words(random, 8));
+            chunk.add(task);
+            if (chunk.size() == 10_000) {
+                index.indexAll(chunk);
+                chunk.clear();
+            }
+        }
+        index.indexAll(chunk);
+        text = switch (query) {
+            case "rare" -> word(VOCABULARY - 7);
+            case "common" -> word(0);
+            default -> word(0) + " " + word(40) + " " + word(VOCABULARY / 2);
+        };
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        return index.search(text, 20);
+    }
+
+    // Re-indexing one task, what every save and update pays on top of the SQL
+    @Benchmark
+    public void reindex() {
+        TaskModel task = new TaskModel();
+        task.setId("task-" + (updates++ % tasks));
+        task.setTitle(text);
+        index.index(task);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double r = random.nextDouble();
+            sb.append(i == 0 ? "" : " ").append(word((int) (VOCABULARY * r * r * r)));
+        }
+        return sb.toString();
+    }
+
+    private static String word(int n) {
+        return "w" + Integer.toString(n, 36);
+    }
+}
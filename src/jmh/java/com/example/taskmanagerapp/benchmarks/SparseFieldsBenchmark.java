@@ -0,0 +1,98 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.config.JacksonConfig;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// One list page from the JDBC store to JSON bytes, with every field vs the board fieldset (id, title, status, dueDate),
+// which leaves description out of both the SELECT and the serializer. Setup prints the response size of one page
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SparseFieldsBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"all", "board"})
+    public String fields;
+
+    @Param({"200", "4000"})
+    public int descriptionLength;
+
+    @Param({"20000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private TaskFields taskFields;
+    private ObjectWriter writer;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("sparse_fields");
+        String description = "x".repeat(descriptionLength);
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<TaskModel> chunk = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            TaskModel task = BenchmarkDatabase.newTask(i, start.plusDays(i % 365));
+            task.setDescription(description);
+            chunk.add(task);
+            if (chunk.size() == 1000) {
+                database.repository.saveTasks(chunk);
+                chunk.clear();
+            }
+        }
+        taskFields = fields.equals("all") ? TaskFields.ALL
+                : new TaskFields(TaskFields.ID | TaskFields.TITLE | TaskFields.STATUS | TaskFields.DUE_DATE);
+        // The same filter TaskFieldsUtils.project hands to the MVC converter
+        SimpleFilterProvider filters = taskFields.isAll() ? JacksonConfig.defaultFilters()
+                : new SimpleFilterProvider().addFilter(TaskResponseDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(taskFields.names()));
+        writer = Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build().writer(filters);
+        System.out.printf("%n%s fields, %d-char descriptions: %,d bytes per %d-task page%n",
+                fields, descriptionLength, listPage().length, PAGE_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public byte[] listPage() throws Exception {
+        // The first pages, so deep OFFSET scans do not drown out the projection
+        int offset = (next++ % 20) * PAGE_SIZE;
+        List<TaskModel> tasks = database.repository.selectTasksPaginated(new TaskFilter(), taskFields, PAGE_SIZE, offset);
+        List<TaskResponseDTO> dtos = new ArrayList<>(tasks.size());
+        for (TaskModel task : tasks) {
+            dtos.add(TaskDtoMapper.toResponseDto(task));
+        }
+        return writer.writeValueAsBytes(new PaginatedTaskResponseDTO(dtos, true, rows, offset / PAGE_SIZE, PAGE_SIZE));
+    }
+}
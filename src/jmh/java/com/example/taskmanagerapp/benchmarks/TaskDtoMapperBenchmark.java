@@ -0,0 +1,50 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.example.taskmanagerapp.models.TaskModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskDtoMapperBenchmark {
+    private TaskRequestDTO request;
+    private TaskModel task;
+
+    @Setup
+    public void setUp() {
+        request = new TaskRequestDTO();
+        request.setTitle("Write report");
+        request.setDescription("Quarterly numbers");
+        request.setStatus("in_progress");
+        request.setDueDate("2030-06-15");
+        task = BenchmarkDatabase.newTask(1, LocalDate.of(2030, 6, 15));
+    }
+
+    @Benchmark
+    public TaskModel toEntity() {
+        return TaskDtoMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponseDTO toResponseDto() {
+        return TaskDtoMapper.toResponseDto(task);
+    }
+}
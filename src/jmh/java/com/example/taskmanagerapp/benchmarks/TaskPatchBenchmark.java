@@ -0,0 +1,85 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// A kanban status flip on the JDBC store: a full update that sends and rewrites every column, including the
+// description, vs a patch that only sets status
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskPatchBenchmark {
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param({"100", "16384"})
+    public int descriptionLength;
+
+    @Param({"10000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private List<TaskModel> tasks;
+    private TaskPatch[] statusPatches;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("task_patch");
+        String description = "x".repeat(descriptionLength);
+        LocalDate start = LocalDate.now().plusDays(1);
+        tasks = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            TaskModel task = BenchmarkDatabase.newTask(i, start.plusDays(i % 365));
+            task.setDescription(description);
+            tasks.add(task);
+        }
+        for (int i = 0; i < rows; i += 1000) {
+            database.repository.saveTasks(tasks.subList(i, Math.min(i + 1000, rows)));
+        }
+        statusPatches = new TaskPatch[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            statusPatches[i] = new TaskPatch();
+            statusPatches[i].setStatus(STATUSES[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public TaskModel fullUpdate() {
+        int i = next++;
+        TaskModel task = tasks.get(i % rows);
+        return database.repository.updateTask(task.getId(), task.getTitle(), task.getDescription(),
+                STATUSES[i % STATUSES.length].name(), task.getDueDate());
+    }
+
+    @Benchmark
+    public TaskModel statusPatch() {
+        int i = next++;
+        return database.repository.patchTask(tasks.get(i % rows).getId(), statusPatches[i % STATUSES.length], null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.InMemoryTaskRepository;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The same repository calls against the embedded H2 store and the in-memory store
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskStoreBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jdbc", "memory"})
+    public String store;
+
+    @Param({"200000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private TaskRepository repository;
+    private List<String> ids;
+    private TaskModel lastSeen;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (store.equals("jdbc")) {
+            database = new BenchmarkDatabase("task_store");
+            repository = database.repository;
+        } else {
+            repository = new InMemoryTaskRepository();
+        }
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<TaskModel> chunk = new ArrayList<>(1000);
+        ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            TaskModel task = BenchmarkDatabase.newTask(i, start.plusDays(i % 365));
+            ids.add(task.getId());
+            chunk.add(task);
+            if (chunk.size() == 1000) {
+                repository.saveTasks(chunk);
+                chunk.clear();
+            }
+        }
+        repository.saveTasks(chunk);
+        lastSeen = repository.selectAllTasksPaginated(1, rows / 2).get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Benchmark
+    public TaskModel selectTask() {
+        return repository.selectTask(ids.get(next++ % rows));
+    }
+
+    @Benchmark
+    public List<TaskModel> keysetPage() {
+        return repository.selectTasksAfter(lastSeen.getDueDate(), lastSeen.getId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskModel updateTask() {
+        String id = ids.get(next++ % rows);
+        return repository.updateTask(id, "Updated", "Updated description", "IN_PROGRESS", lastSeen.getDueDate());
+    }
+
+    @Benchmark
+    public long countAllTasks() {
+        return repository.countAllTasks();
+    }
+}
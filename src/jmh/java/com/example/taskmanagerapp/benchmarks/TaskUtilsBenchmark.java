@@ -0,0 +1,32 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.util.TaskUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskUtilsBenchmark {
+    // Exact match, lower case and an invalid value, which takes the exception path
+    @Param({"PENDING", "in_progress", "UNKNOWN"})
+    public String status;
+
+    @Benchmark
+    public boolean isValidTaskStatus() {
+        return TaskUtils.isValidTaskStatus(status);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.validation.TaskValidator;
+import com.example.taskmanagerapp.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Rejected input should cost about the same as accepted input
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskValidatorBenchmark {
+    @Param({"valid", "badStatus", "badDate"})
+    public String input;
+
+    private TaskRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        request = new TaskRequestDTO();
+        request.setTitle("Write report");
+        request.setDescription("Quarterly numbers");
+        request.setStatus(input.equals("badStatus") ? "ARCHIVED" : "in_progress");
+        request.setDueDate(input.equals("badDate") ? "2030-02-30" : LocalDate.now().plusDays(30).toString());
+    }
+
+    @Benchmark
+    public ValidationResult<TaskModel> validateNewTask() {
+        return TaskValidator.validateNewTask(request);
+    }
+}
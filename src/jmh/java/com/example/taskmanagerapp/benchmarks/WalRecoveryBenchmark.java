@@ -0,0 +1,105 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.enums.FsyncPolicy;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.example.taskmanagerapp.repositories.WalTaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Startup recovery of the write-ahead log store: every task replayed from log records, or loaded from one snapshot.
+// Each iteration reopens the same files; setup prints their size on disk. 10M tasks need a bigger heap
+// (-p rows=10000000 -jvmArgsAppend -Xmx8g)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class WalRecoveryBenchmark {
+
+    @Param({"log", "snapshot"})
+    public String source;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Path directory;
+    private WalTaskRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wal-recovery");
+        WalTaskRepository writer = open();
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<TaskModel> chunk = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(BenchmarkDatabase.newTask(i, start.plusDays(i % 365)));
+            if (chunk.size() == 1000) {
+                writer.saveTasks(chunk);
+                chunk.clear();
+            }
+        }
+        writer.saveTasks(chunk);
+        if (source.equals("snapshot")) {
+            writer.snapshot();
+        }
+        writer.close();
+        long bytes;
+        try (var files = Files.list(directory)) {
+            bytes = files.mapToLong(path -> path.toFile().length()).sum();
+        }
+        System.out.printf("%n%,d tasks, %s, %,d bytes on disk%n", rows, source, bytes);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeStore() throws IOException {
+        if (repository != null) {
+            repository.close();
+            repository = null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public TaskRepository recover() throws IOException {
+        repository = open();
+        return repository;
+    }
+
+    private WalTaskRepository open() throws IOException {
+        WalTaskRepository store = new WalTaskRepository();
+        ReflectionTestUtils.setField(store, "directory", directory);
+        ReflectionTestUtils.setField(store, "fsyncPolicy", FsyncPolicy.INTERVAL);
+        ReflectionTestUtils.setField(store, "fsyncIntervalMillis", 10L);
+        ReflectionTestUtils.setField(store, "segmentSizeMb", 64);
+        ReflectionTestUtils.setField(store, "snapshotIntervalMillis", 0L);
+        store.open();
+        return store;
+    }
+}
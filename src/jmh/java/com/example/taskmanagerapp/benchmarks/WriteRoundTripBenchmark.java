@@ -0,0 +1,97 @@
+package com.example.taskmanagerapp.benchmarks;
+
+import com.example.taskmanagerapp.models.TaskModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Create and update as the service used to run them, a plain write followed by a select of the row, vs the repository's
+// single FINAL TABLE statement that returns the written row
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteRoundTripBenchmark {
+    private static final int TASKS = 10_000;
+    private static final String INSERT_TASK = "INSERT INTO task (id, title, description, status, due_date) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_TASK = "UPDATE task SET title = ?, description = ?, status = ?, due_date = ?, version = version + 1 WHERE id = ? AND is_deleted = false";
+    // Both paths bump the counter, so only the select of the written row differs
+    private static final String RECORD_CHANGE = "UPDATE task_counter SET live_count = live_count + ?, change_count = change_count + 1 WHERE id = 0";
+
+    private BenchmarkDatabase database;
+    private List<String> ids;
+    private LocalDate dueDate;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("write_round_trip");
+        dueDate = LocalDate.now().plusDays(1);
+    }
+
+    // Fresh rows each iteration, so creates don't grow the table without bound and updates hit existing tasks
+    @Setup(Level.Iteration)
+    public void reload() {
+        database.truncate();
+        List<TaskModel> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(BenchmarkDatabase.newTask(i, dueDate));
+        }
+        database.repository.saveTasks(tasks);
+        ids = tasks.stream().map(TaskModel::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public TaskModel createThenSelect() {
+        TaskModel task = BenchmarkDatabase.newTask(0, dueDate);
+        database.jdbcTemplate.update(INSERT_TASK, task.getId(), task.getTitle(), task.getDescription(), task.getStatus().name(), task.getDueDate());
+        database.jdbcTemplate.update(RECORD_CHANGE, 1);
+        return database.repository.selectTask(task.getId());
+    }
+
+    @Benchmark
+    public TaskModel createReturning() {
+        TaskModel task = BenchmarkDatabase.newTask(0, dueDate);
+        return database.repository.saveTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus().name(), task.getDueDate());
+    }
+
+    @Benchmark
+    public TaskModel updateThenSelect() {
+        String id = nextId();
+        database.jdbcTemplate.update(UPDATE_TASK, "Updated", null, "IN_PROGRESS", dueDate, id);
+        database.jdbcTemplate.update(RECORD_CHANGE, 0);
+        return database.repository.selectTask(id);
+    }
+
+    @Benchmark
+    public TaskModel updateReturning() {
+        return database.repository.updateTask(nextId(), "Updated", null, "IN_PROGRESS", dueDate);
+    }
+
+    private String nextId() {
+        String id = ids.get(next);
+        next = (next + 1) % TASKS;
+        return id;
+    }
+}
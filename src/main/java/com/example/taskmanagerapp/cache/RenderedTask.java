@@ -0,0 +1,20 @@
+package com.example.taskmanagerapp.cache;
+
+// A task's full JSON response body as of one version
+public final class RenderedTask {
+    private final long version;
+    private final byte[] body;
+
+    public RenderedTask(long version, byte[] body) {
+        this.version = version;
+        this.body = body;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
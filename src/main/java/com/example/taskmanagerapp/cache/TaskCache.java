@@ -0,0 +1,85 @@
+package com.example.taskmanagerapp.cache;
+
+import com.example.taskmanagerapp.dto.CacheStatsDTO;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+// Caffeine's size bound uses W-TinyLFU (frequency sketch + window/segmented LRU), so one-off scans don't push out the hot set.
+// Next to the tasks it keeps their rendered JSON bodies, bounded by total bytes; invalidating a task drops both
+@Component
+public class TaskCache implements MeterBinder {
+    // Rough per-entry cost of the key, the RenderedTask and Caffeine's node on top of the body
+    private static final int RENDERED_OVERHEAD = 128;
+
+    private final Cache<String, TaskModel> cache;
+    private final Cache<String, RenderedTask> rendered;
+
+    public TaskCache(@Value("${task.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${task.cache.rendered-max-bytes:67108864}") long renderedMaxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.rendered = Caffeine.newBuilder()
+                .maximumWeight(renderedMaxBytes)
+                .weigher((String id, RenderedTask task) -> task.getBody().length + RENDERED_OVERHEAD)
+                .recordStats()
+                .build();
+    }
+
+    // Loads through the loader on a miss; a null result (task not found) is not cached
+    public TaskModel get(String id, Function<String, TaskModel> loader) {
+        return cache.get(id, loader);
+    }
+
+    public TaskModel getIfPresent(String id) {
+        return cache.getIfPresent(id);
+    }
+
+    // Renders on a miss from the task cache. An invalidate waits for a render of the same id in flight, so a body
+    // built from the old task can't outlive the change
+    public RenderedTask getRendered(String id, Function<String, RenderedTask> renderer) {
+        return rendered.get(id, renderer);
+    }
+
+    // The task first, so a render that starts in between reads the new one
+    public void invalidate(String id) {
+        cache.invalidate(id);
+        rendered.invalidate(id);
+    }
+
+    public void invalidateAll(Iterable<String> ids) {
+        cache.invalidateAll(ids);
+        rendered.invalidateAll(ids);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        rendered.invalidateAll();
+    }
+
+    // Spring Boot binds MeterBinder beans, publishing the same hit/miss/eviction stats as cache_* meters
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "task");
+        CaffeineCacheMetrics.monitor(registry, rendered, "task_rendered");
+        Gauge.builder("task.rendered.cache.bytes", rendered, c -> c.policy().eviction().orElseThrow().weightedSize().orElse(0))
+                .description("Weighted size of the rendered task body cache")
+                .register(registry);
+    }
+
+    public CacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+}
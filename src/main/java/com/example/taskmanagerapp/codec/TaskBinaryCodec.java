@@ -0,0 +1,242 @@
+package com.example.taskmanagerapp.codec;
+
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskFields;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Compact wire form of task responses for clients that send Accept: application/x-task-binary.
+// Every message starts with a format version byte. Numbers are unsigned LEB128 varints; strings are varint (length + 1)
+// then UTF-8, 0 for null; status is ordinal + 1, 0 for null; dueDate is zigzag(epoch day) + 1, 0 for null.
+//   task:        id, title, description, status, dueDate, version
+//   page:        total, page, size, hasMore byte, task count, tasks
+//   cursor page: size, hasMore byte, nextCursor, task count, tasks
+// Fields left out by fields= are written as null (version as 0), one byte each. The decode methods are the Java client
+public final class TaskBinaryCodec {
+    public static final String MEDIA_TYPE = "application/x-task-binary";
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private TaskBinaryCodec() {
+    }
+
+    public static byte[] encode(TaskResponseDTO task, TaskFields fields) {
+        Output out = new Output(estimate(task));
+        out.write(FORMAT_VERSION);
+        writeTask(out, task, fields);
+        return out.toByteArray();
+    }
+
+    public static byte[] encode(PaginatedTaskResponseDTO page, TaskFields fields) {
+        Output out = new Output(estimate(page.getTasks()));
+        out.write(FORMAT_VERSION);
+        out.writeVarint(page.getTotal());
+        out.writeVarint(page.getPage());
+        out.writeVarint(page.getSize());
+        out.write(page.isHasMore() ? 1 : 0);
+        writeTasks(out, page.getTasks(), fields);
+        return out.toByteArray();
+    }
+
+    public static byte[] encode(CursorTaskResponseDTO page, TaskFields fields) {
+        Output out = new Output(estimate(page.getTasks()));
+        out.write(FORMAT_VERSION);
+        out.writeVarint(page.getSize());
+        out.write(page.isHasMore() ? 1 : 0);
+        out.writeString(page.getNextCursor());
+        writeTasks(out, page.getTasks(), fields);
+        return out.toByteArray();
+    }
+
+    public static TaskResponseDTO decodeTask(byte[] bytes) {
+        ByteBuffer in = open(bytes);
+        return readTask(in);
+    }
+
+    public static PaginatedTaskResponseDTO decodePage(byte[] bytes) {
+        ByteBuffer in = open(bytes);
+        try {
+            long total = readVarint(in);
+            int page = (int) readVarint(in);
+            int size = (int) readVarint(in);
+            boolean hasMore = in.get() != 0;
+            return new PaginatedTaskResponseDTO(readTasks(in), hasMore, total, page, size);
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public static CursorTaskResponseDTO decodeCursorPage(byte[] bytes) {
+        ByteBuffer in = open(bytes);
+        try {
+            int size = (int) readVarint(in);
+            boolean hasMore = in.get() != 0;
+            String nextCursor = readString(in);
+            return new CursorTaskResponseDTO(readTasks(in), hasMore, nextCursor, size);
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    // Enough for ASCII text, so the buffer is sized once; multi-byte text may grow it
+    private static int estimate(List<TaskResponseDTO> tasks) {
+        int size = 64;
+        for (TaskResponseDTO task : tasks) {
+            size += estimate(task);
+        }
+        return size;
+    }
+
+    private static int estimate(TaskResponseDTO task) {
+        return 32 + length(task.getId()) + length(task.getTitle()) + length(task.getDescription());
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static void writeTasks(Output out, List<TaskResponseDTO> tasks, TaskFields fields) {
+        out.writeVarint(tasks.size());
+        for (TaskResponseDTO task : tasks) {
+            writeTask(out, task, fields);
+        }
+    }
+
+    private static void writeTask(Output out, TaskResponseDTO task, TaskFields fields) {
+        out.writeString(fields.has(TaskFields.ID) ? task.getId() : null);
+        out.writeString(fields.has(TaskFields.TITLE) ? task.getTitle() : null);
+        out.writeString(fields.has(TaskFields.DESCRIPTION) ? task.getDescription() : null);
+        String status = fields.has(TaskFields.STATUS) ? task.getStatus() : null;
+        out.write(status != null ? TaskStatus.valueOf(status).ordinal() + 1 : 0);
+        LocalDate dueDate = fields.has(TaskFields.DUE_DATE) ? task.getDueDate() : null;
+        if (dueDate != null) {
+            long epochDay = dueDate.toEpochDay();
+            out.writeVarint(((epochDay << 1) ^ (epochDay >> 63)) + 1);
+        } else {
+            out.write(0);
+        }
+        out.writeVarint(fields.has(TaskFields.VERSION) ? task.getVersion() : 0);
+    }
+
+    private static ByteBuffer open(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a version " + FORMAT_VERSION + " task message");
+        }
+        return ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+    }
+
+    private static List<TaskResponseDTO> readTasks(ByteBuffer in) {
+        int count = (int) readVarint(in);
+        // Every task takes at least six bytes, so a damaged count can't ask for a huge list
+        List<TaskResponseDTO> tasks = new ArrayList<>(Math.min(count, in.remaining() / 6));
+        for (int i = 0; i < count; i++) {
+            tasks.add(readTask(in));
+        }
+        return tasks;
+    }
+
+    private static TaskResponseDTO readTask(ByteBuffer in) {
+        try {
+            TaskResponseDTO task = new TaskResponseDTO();
+            task.setId(readString(in));
+            task.setTitle(readString(in));
+            task.setDescription(readString(in));
+            int status = in.get();
+            task.setStatus(status > 0 ? STATUSES[status - 1].name() : null);
+            long dueDate = readVarint(in);
+            if (dueDate > 0) {
+                long zigzag = dueDate - 1;
+                task.setDueDate(LocalDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1)));
+            }
+            task.setVersion(readVarint(in));
+            return task;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw truncated();
+        }
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in task message");
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarint(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw truncated();
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static IllegalArgumentException truncated() {
+        return new IllegalArgumentException("Truncated task message");
+    }
+
+    // Unsynchronized growable buffer; a ByteArrayOutputStream locks on every write
+    private static final class Output {
+        private byte[] bytes;
+        private int count;
+
+        Output(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void write(int b) {
+            ensure(1);
+            bytes[count++] = (byte) b;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[count++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                write(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length + 1L);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, count, utf8.length);
+            count += utf8.length;
+        }
+
+        byte[] toByteArray() {
+            return count == bytes.length ? bytes : Arrays.copyOf(bytes, count);
+        }
+
+        private void ensure(int extra) {
+            if (count + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, count + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.taskmanagerapp.codec;
+
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.util.TaskFieldsUtils;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Writes task, page and cursor page responses as TaskBinaryCodec messages, including ones wrapped for fields=.
+// Write-only: request bodies stay JSON
+public class TaskBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final MediaType BINARY = MediaType.parseMediaType(TaskBinaryCodec.MEDIA_TYPE);
+    // What the converters can write for a task response, in converter order: Jackson first, this one appended after it
+    private static final List<MediaType> PRODUCIBLE = List.of(MediaType.APPLICATION_JSON,
+            new MediaType("application", "*+json"), BINARY);
+
+    public TaskBinaryHttpMessageConverter() {
+        super(BINARY);
+    }
+
+    // The media type content negotiation will pick for a task response with the given Accept header, or null when
+    // nothing fits. Walks the types the same way AbstractMessageConverterMethodProcessor does, so a handler can tell
+    // which encoding it is about to send (and tag it) before the body is written
+    public static MediaType selectedMediaType(String accept) {
+        List<MediaType> requested;
+        try {
+            requested = accept == null || accept.isBlank() ? List.of(MediaType.ALL) : MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        List<MediaType> candidates = new ArrayList<>();
+        for (MediaType requestedType : requested) {
+            for (MediaType producible : PRODUCIBLE) {
+                if (requestedType.isCompatibleWith(producible)) {
+                    MediaType produced = producible.copyQualityValue(requestedType);
+                    candidates.add(requestedType.isLessSpecific(produced) ? produced : requestedType);
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(candidates);
+        for (MediaType candidate : candidates) {
+            if (candidate.isConcrete()) {
+                return candidate.removeQualityValue();
+            }
+        }
+        return null;
+    }
+
+    public static boolean isSelected(MediaType mediaType) {
+        return mediaType != null && mediaType.equalsTypeAndSubtype(BINARY);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == TaskResponseDTO.class || clazz == PaginatedTaskResponseDTO.class
+                || clazz == CursorTaskResponseDTO.class || clazz == MappingJacksonValue.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Task binary format is response-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        TaskFields fields = TaskFields.ALL;
+        if (body instanceof MappingJacksonValue value) {
+            fields = TaskFieldsUtils.fieldsOf(value);
+            body = value.getValue();
+        }
+        byte[] bytes;
+        if (body instanceof TaskResponseDTO task) {
+            bytes = TaskBinaryCodec.encode(task, fields);
+        } else if (body instanceof PaginatedTaskResponseDTO page) {
+            bytes = TaskBinaryCodec.encode(page, fields);
+        } else if (body instanceof CursorTaskResponseDTO page) {
+            bytes = TaskBinaryCodec.encode(page, fields);
+        } else {
+            throw new HttpMessageNotWritableException("No task binary form for " + body.getClass().getSimpleName());
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+}
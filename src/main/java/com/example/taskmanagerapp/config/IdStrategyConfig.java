@@ -0,0 +1,20 @@
+package com.example.taskmanagerapp.config;
+
+import com.example.taskmanagerapp.enums.IdStrategy;
+import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdStrategyConfig {
+
+    @Value("${task.id.strategy:uuid-v7}")
+    IdStrategy idStrategy;
+
+    // IdGeneratorUtil stays a static util, so the configured strategy is applied to it once at startup
+    @PostConstruct
+    void applyIdStrategy() {
+        IdGeneratorUtil.setStrategy(idStrategy);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagerapp.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// TaskResponseDTO goes through a named Jackson filter so a response can carry a sparse fieldset. Unless a response
+// brings its own filters (TaskFieldsUtils.project), every property is written as before
+@Configuration
+public class JacksonConfig {
+
+    public static SimpleFilterProvider defaultFilters() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer taskFieldsFilter() {
+        return builder -> builder.filters(defaultFilters());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanagerapp.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class JdbcBulkheadConfig {
+
+    // Wraps the pool before JdbcTemplate and the transaction manager see it, so every TaskRepository call goes through the bulkhead
+    @Bean
+    @ConditionalOnProperty(name = "task.jdbc.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor jdbcBulkheadPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                    int permits = environment.getProperty("task.jdbc.bulkhead.permits", Integer.class, poolSize);
+                    long acquireTimeoutMillis = environment.getProperty("task.jdbc.bulkhead.acquire-timeout-ms", Long.class, 30000L);
+                    return new BulkheadDataSource(dataSource, permits, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Wait time for a permit plus available/queued gauges; Hikari's own pool metrics are bound by Spring Boot
+    @Bean
+    @ConditionalOnProperty(name = "task.jdbc.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder jdbcBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof BulkheadDataSource bulkhead) {
+                bulkhead.bindMetrics(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanagerapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Runs the background purge of soft-deleted tasks; task.purge.enabled=false turns it off
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "task.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,18 @@
+package com.example.taskmanagerapp.config;
+
+import com.example.taskmanagerapp.codec.TaskBinaryHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// Appended after the Jackson converter, so JSON stays the answer to Accept: */* or no Accept header
+@Configuration
+public class TaskBinaryConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new TaskBinaryHttpMessageConverter());
+    }
+}
@@ -1,11 +1,40 @@
 package com.example.taskmanagerapp.controllers;
 
+import com.example.taskmanagerapp.cache.RenderedTask;
+import com.example.taskmanagerapp.codec.TaskBinaryHttpMessageConverter;
+import com.example.taskmanagerapp.dto.BatchTaskResponseDTO;
+import com.example.taskmanagerapp.dto.BulkOperationResponseDTO;
+import com.example.taskmanagerapp.dto.BulkTaskRequestDTO;
+import com.example.taskmanagerapp.dto.CacheStatsDTO;
+import com.example.taskmanagerapp.dto.ImportReportDTO;
+import com.example.taskmanagerapp.dto.IngestStatusDTO;
+import com.example.taskmanagerapp.dto.PurgeStatsDTO;
+import com.example.taskmanagerapp.dto.SearchTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskPatchRequestDTO;
 import com.example.taskmanagerapp.dto.TaskRequestDTO;
 import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.services.TaskExportService;
+import com.example.taskmanagerapp.services.TaskImportService;
+import com.example.taskmanagerapp.services.TaskIngestService;
+import com.example.taskmanagerapp.services.TaskPurgeService;
 import com.example.taskmanagerapp.services.TaskService;
+import com.example.taskmanagerapp.util.ETagUtils;
+import com.example.taskmanagerapp.util.TaskFieldsUtils;
+import com.example.taskmanagerapp.util.TaskUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -13,30 +42,172 @@ public class TaskController {
     @Autowired
     TaskService taskService;
 
+    @Autowired
+    TaskExportService taskExportService;
+
+    @Autowired
+    TaskImportService taskImportService;
+
+    @Autowired
+    TaskPurgeService taskPurgeService;
+
+    @Autowired
+    TaskIngestService taskIngestService;
+
+    // With task.ingest.async the task is only queued: 202 with its id, and the status URL in Location
     @PostMapping
-    public ResponseEntity<TaskResponseDTO> createTask(@RequestBody TaskRequestDTO dto) {
+    public ResponseEntity<?> createTask(@RequestBody TaskRequestDTO dto) {
+        if (taskIngestService.isAsync()) {
+            IngestStatusDTO status = taskIngestService.enqueue(dto);
+            return ResponseEntity.accepted().location(URI.create(status.getStatusUrl())).body(status);
+        }
         TaskResponseDTO responseDTO = taskService.saveTask(dto);
         return ResponseEntity.status(201).body(responseDTO);
     }
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTaskResponseDTO> createTasks(@RequestBody List<TaskRequestDTO> dtos) {
+        return ResponseEntity.ok(taskService.saveTasks(dtos));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReportDTO> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(taskImportService.importNdjson(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportReportDTO> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(taskImportService.importCsv(body));
+    }
+
+    @PutMapping("/bulk/status")
+    public ResponseEntity<BulkOperationResponseDTO> updateTasksStatus(@RequestBody BulkTaskRequestDTO dto) {
+        return ResponseEntity.ok(taskService.updateTasksStatus(dto));
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkOperationResponseDTO> deleteTasks(@RequestBody BulkTaskRequestDTO dto) {
+        return ResponseEntity.ok(taskService.deleteTasks(dto));
+    }
+
+    @DeleteMapping("/done")
+    public ResponseEntity<BulkOperationResponseDTO> deleteDoneTasks(@RequestParam("dueBefore") String dueBefore) {
+        return ResponseEntity.ok(taskService.deleteDoneTasksDueBefore(dueBefore));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(value = "status", required = false) List<String> statuses,
+                                                             @RequestParam(value = "dueFrom", required = false) String dueFrom,
+                                                             @RequestParam(value = "dueTo", required = false) String dueTo) {
+        // Validate before streaming starts so bad filters still get a 400 body
+        TaskFilter filter = TaskUtils.toTaskFilter(statuses, dueFrom, dueTo);
+        StreamingResponseBody body = out -> taskExportService.exportTasks(filter, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchTaskResponseDTO> searchTasks(@RequestParam("q") String query,
+                                                             @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskService.searchTasks(query, limit));
+    }
+
+    // Spring answers a matching If-None-Match with 304 before the body is written. A full JSON read sends the cached
+    // rendered body as is, with no DTO mapping or serialization; fields= and the binary encoding go through the DTO
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDTO> getTasksById(@PathVariable("id") String id) {
-        TaskResponseDTO responseDTO = taskService.getTaskById(id);
-        return ResponseEntity.ok(responseDTO);
+    public ResponseEntity<?> getTasksById(@PathVariable("id") String id,
+                                          @RequestParam(value = "fields", required = false) String fields,
+                                          ServletWebRequest request) {
+        MediaType encoding = negotiate(request);
+        if (fields == null && MediaType.APPLICATION_JSON.equalsTypeAndSubtype(encoding)) {
+            RenderedTask rendered = taskService.getRenderedTask(id);
+            return ResponseEntity.ok().eTag(ETagUtils.taskETag(rendered.getVersion()))
+                    .contentType(MediaType.APPLICATION_JSON).body(rendered.getBody());
+        }
+        TaskFields taskFields = TaskFieldsUtils.parse(fields);
+        TaskResponseDTO responseDTO = taskService.getTaskById(id, taskFields);
+        return ResponseEntity.ok().eTag(encodingETag(ETagUtils.taskETag(responseDTO.getVersion()), encoding))
+                .body(TaskFieldsUtils.project(responseDTO, taskFields));
     }
+
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable("id") String id, @RequestBody TaskRequestDTO dto) {
-        TaskResponseDTO responseDTO = taskService.updateTask(id, dto);
-        return ResponseEntity.ok(responseDTO);
+    public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable("id") String id, @RequestBody TaskRequestDTO dto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDTO responseDTO = taskService.updateTask(id, dto, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.taskETag(responseDTO.getVersion())).body(responseDTO);
+    }
+
+    // JSON merge patch (RFC 7396): members left out stay as they are, a null description clears it
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponseDTO> patchTask(@PathVariable("id") String id, @RequestBody TaskPatchRequestDTO dto,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDTO responseDTO = taskService.patchTask(id, dto, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.taskETag(responseDTO.getVersion())).body(responseDTO);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable("id") String id) {
-        taskService.deleteTaskById(id);
+    public ResponseEntity<Void> deleteTask(@PathVariable("id") String id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTaskById(id, ETagUtils.parseIfMatch(ifMatch));
         return ResponseEntity.status(204).build();
     }
 
     @GetMapping("/page/{page}/size/{size}")
-    public ResponseEntity<?> getAllTasks(@PathVariable("page") int page, @PathVariable("size") int size) {
-        return ResponseEntity.ok(taskService.getAllTasks(page, size));
+    public ResponseEntity<?> getAllTasks(@PathVariable("page") int page, @PathVariable("size") int size,
+                                         @RequestParam(value = "status", required = false) List<String> statuses,
+                                         @RequestParam(value = "dueFrom", required = false) String dueFrom,
+                                         @RequestParam(value = "dueTo", required = false) String dueTo,
+                                         @RequestParam(value = "fields", required = false) String fields,
+                                         ServletWebRequest request) {
+        TaskFilter filter = TaskUtils.toTaskFilter(statuses, dueFrom, dueTo);
+        TaskFields taskFields = TaskFieldsUtils.parse(fields);
+        // Checked before the listing runs, so an unchanged store costs one counter read and no listing query
+        String eTag = encodingETag(taskService.getListETag(), negotiate(request));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag)
+                .body(TaskFieldsUtils.project(taskService.getAllTasks(page, size, filter, taskFields), taskFields));
+    }
+
+    @GetMapping("/cursor/size/{size}")
+    public ResponseEntity<?> getTasksAfterCursor(@PathVariable("size") int size,
+                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "status", required = false) List<String> statuses,
+                                                 @RequestParam(value = "dueFrom", required = false) String dueFrom,
+                                                 @RequestParam(value = "dueTo", required = false) String dueTo,
+                                                 @RequestParam(value = "fields", required = false) String fields,
+                                                 ServletWebRequest request) {
+        TaskFilter filter = TaskUtils.toTaskFilter(statuses, dueFrom, dueTo);
+        TaskFields taskFields = TaskFieldsUtils.parse(fields);
+        String eTag = encodingETag(taskService.getListETag(), negotiate(request));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag)
+                .body(TaskFieldsUtils.project(taskService.getTasksAfterCursor(cursor, size, filter, taskFields), taskFields));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(taskService.getCacheStats());
+    }
+
+    @GetMapping("/ingest/{id}")
+    public ResponseEntity<IngestStatusDTO> getIngestStatus(@PathVariable("id") String id) {
+        return ResponseEntity.ok(taskIngestService.status(id));
+    }
+
+    @GetMapping("/purge/stats")
+    public ResponseEntity<PurgeStatsDTO> getPurgeStats() {
+        return ResponseEntity.ok(taskPurgeService.stats());
+    }
+
+    // JSON and the binary encoding share the task URLs, so caches have to key on Accept
+    private static MediaType negotiate(ServletWebRequest request) {
+        request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return TaskBinaryHttpMessageConverter.selectedMediaType(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    private static String encodingETag(String eTag, MediaType encoding) {
+        return TaskBinaryHttpMessageConverter.isSelected(encoding) ? ETagUtils.binaryETag(eTag) : eTag;
     }
 }
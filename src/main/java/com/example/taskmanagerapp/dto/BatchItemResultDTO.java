@@ -0,0 +1,61 @@
+package com.example.taskmanagerapp.dto;
+
+public class BatchItemResultDTO {
+    private int index;
+    private String id;
+    private String code;
+    private String message;
+
+    public static BatchItemResultDTO created(int index, String id) {
+        BatchItemResultDTO result = new BatchItemResultDTO();
+        result.index = index;
+        result.id = id;
+        return result;
+    }
+
+    public static BatchItemResultDTO failed(int index, String code, String message) {
+        BatchItemResultDTO result = new BatchItemResultDTO();
+        result.index = index;
+        result.code = code;
+        result.message = message;
+        return result;
+    }
+
+    public void markFailed(String code, String message) {
+        this.id = null;
+        this.code = code;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
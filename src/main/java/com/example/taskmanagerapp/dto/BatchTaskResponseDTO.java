@@ -0,0 +1,39 @@
+package com.example.taskmanagerapp.dto;
+
+import java.util.List;
+
+public class BatchTaskResponseDTO {
+    private int created;
+    private int failed;
+    private List<BatchItemResultDTO> results;
+
+    public BatchTaskResponseDTO(int created, int failed, List<BatchItemResultDTO> results) {
+        this.created = created;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchItemResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchItemResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanagerapp.dto;
+
+public class BulkOperationResponseDTO {
+    private int affected;
+
+    public BulkOperationResponseDTO(int affected) {
+        this.affected = affected;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    public void setAffected(int affected) {
+        this.affected = affected;
+    }
+}
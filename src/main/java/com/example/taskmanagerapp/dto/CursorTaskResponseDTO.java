@@ -0,0 +1,49 @@
+package com.example.taskmanagerapp.dto;
+
+import java.util.List;
+
+public class CursorTaskResponseDTO {
+    private List<TaskResponseDTO> tasks;
+    private boolean hasMore;
+    private String nextCursor;
+    private int size;
+
+    public CursorTaskResponseDTO(List<TaskResponseDTO> tasks, boolean hasMore, String nextCursor, int size) {
+        this.tasks = tasks;
+        this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<TaskResponseDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskResponseDTO> tasks) {
+        this.tasks = tasks;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
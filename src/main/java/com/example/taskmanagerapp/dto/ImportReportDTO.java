@@ -0,0 +1,80 @@
+package com.example.taskmanagerapp.dto;
+
+import java.util.List;
+
+public class ImportReportDTO {
+    private long processed;
+    private long created;
+    private long failed;
+    private boolean completed;
+    private List<BatchItemResultDTO> errors;
+    private long durationMillis;
+    private long rowsPerSecond;
+
+    public ImportReportDTO(long processed, long created, long failed, boolean completed,
+                           List<BatchItemResultDTO> errors, long durationMillis) {
+        this.processed = processed;
+        this.created = created;
+        this.failed = failed;
+        this.completed = completed;
+        this.errors = errors;
+        this.durationMillis = durationMillis;
+        this.rowsPerSecond = durationMillis > 0 ? processed * 1000 / durationMillis : processed;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public List<BatchItemResultDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BatchItemResultDTO> errors) {
+        this.errors = errors;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
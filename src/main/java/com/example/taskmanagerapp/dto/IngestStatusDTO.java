@@ -0,0 +1,39 @@
+package com.example.taskmanagerapp.dto;
+
+import com.example.taskmanagerapp.enums.IngestState;
+
+public class IngestStatusDTO {
+    private String id;
+    private IngestState state;
+    private String statusUrl;
+
+    public IngestStatusDTO(String id, IngestState state) {
+        this.id = id;
+        this.state = state;
+        this.statusUrl = "/api/v1/tasks/ingest/" + id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public IngestState getState() {
+        return state;
+    }
+
+    public void setState(IngestState state) {
+        this.state = state;
+    }
+
+    public String getStatusUrl() {
+        return statusUrl;
+    }
+
+    public void setStatusUrl(String statusUrl) {
+        this.statusUrl = statusUrl;
+    }
+}
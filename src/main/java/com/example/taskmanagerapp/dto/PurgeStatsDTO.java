@@ -0,0 +1,60 @@
+package com.example.taskmanagerapp.dto;
+
+import java.time.Instant;
+
+public class PurgeStatsDTO {
+    private boolean running;
+    private Instant lastStartedAt;
+    private Instant lastFinishedAt;
+    // Tasks purged by the run in progress, or by the last one when none is running
+    private long runPurged;
+    private long totalPurged;
+
+    public PurgeStatsDTO(boolean running, Instant lastStartedAt, Instant lastFinishedAt, long runPurged, long totalPurged) {
+        this.running = running;
+        this.lastStartedAt = lastStartedAt;
+        this.lastFinishedAt = lastFinishedAt;
+        this.runPurged = runPurged;
+        this.totalPurged = totalPurged;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public Instant getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(Instant lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public Instant getLastFinishedAt() {
+        return lastFinishedAt;
+    }
+
+    public void setLastFinishedAt(Instant lastFinishedAt) {
+        this.lastFinishedAt = lastFinishedAt;
+    }
+
+    public long getRunPurged() {
+        return runPurged;
+    }
+
+    public void setRunPurged(long runPurged) {
+        this.runPurged = runPurged;
+    }
+
+    public long getTotalPurged() {
+        return totalPurged;
+    }
+
+    public void setTotalPurged(long totalPurged) {
+        this.totalPurged = totalPurged;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.taskmanagerapp.dto;
+
+import java.util.List;
+
+public class SearchTaskResponseDTO {
+    private List<TaskResponseDTO> tasks;
+    private long totalHits;
+    private String query;
+
+    public SearchTaskResponseDTO(List<TaskResponseDTO> tasks, long totalHits, String query) {
+        this.tasks = tasks;
+        this.totalHits = totalHits;
+        this.query = query;
+    }
+
+    public List<TaskResponseDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskResponseDTO> tasks) {
+        this.tasks = tasks;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(long totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+}
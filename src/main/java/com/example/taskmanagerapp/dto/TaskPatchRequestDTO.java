@@ -0,0 +1,69 @@
+package com.example.taskmanagerapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// JSON merge-patch body: Jackson only calls the setters of members present in the document, so a field that was
+// left out (unchanged) can be told apart from one sent as null (cleared)
+public class TaskPatchRequestDTO {
+    private String title;
+    private String description;
+    private String status;
+    @JsonProperty("due_date")
+    private String dueDate;
+    private boolean hasTitle;
+    private boolean hasDescription;
+    private boolean hasStatus;
+    private boolean hasDueDate;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.hasTitle = true;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        this.hasDescription = true;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+        this.hasStatus = true;
+    }
+
+    public String getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(String dueDate) {
+        this.dueDate = dueDate;
+        this.hasDueDate = true;
+    }
+
+    public boolean hasTitle() {
+        return hasTitle;
+    }
+
+    public boolean hasDescription() {
+        return hasDescription;
+    }
+
+    public boolean hasStatus() {
+        return hasStatus;
+    }
+
+    public boolean hasDueDate() {
+        return hasDueDate;
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.taskmanagerapp.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDate;
 
+@JsonFilter(TaskResponseDTO.FIELDS_FILTER)
 public class TaskResponseDTO {
+    public static final String FIELDS_FILTER = "taskFields";
+
     private String id;
     private String title;
     private String description;
     private String status;
     private LocalDate dueDate;
+    private long version;
 
     public String getId() {
         return id;
@@ -50,4 +55,12 @@ public class TaskResponseDTO {
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
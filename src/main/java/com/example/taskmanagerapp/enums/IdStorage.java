@@ -0,0 +1,6 @@
+package com.example.taskmanagerapp.enums;
+
+public enum IdStorage {
+    VARCHAR,
+    UUID
+}
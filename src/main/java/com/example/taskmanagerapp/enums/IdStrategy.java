@@ -0,0 +1,6 @@
+package com.example.taskmanagerapp.enums;
+
+public enum IdStrategy {
+    UUID_V4,
+    UUID_V7
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagerapp.enums;
+
+public enum IngestState {
+    QUEUED,
+    STORED,
+    FAILED
+}
@@ -1,47 +1,105 @@
 package com.example.taskmanagerapp.exceptions;
 
 import com.example.taskmanagerapp.dto.ErrorResponse;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+// Errors are always JSON, even for an Accept that only names the binary task format or NDJSON
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Autowired
+    TaskMetrics taskMetrics;
+
     @ExceptionHandler(InvalidDateException.class)
     public ResponseEntity<ErrorResponse> handleInvalidDate(InvalidDateException ex) {
         ErrorResponse error = new ErrorResponse("INVALID_DATE", ex.getMessage());
-        return ResponseEntity.badRequest().body(error);
+        taskMetrics.countError("INVALID_DATE");
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(error);
     }
 
     @ExceptionHandler(InvalidStatusException.class)
     public ResponseEntity<ErrorResponse> handleInvalidStatus(InvalidStatusException ex) {
         ErrorResponse error = new ErrorResponse("INVALID_STATUS", ex.getMessage());
-        return ResponseEntity.badRequest().body(error);
+        taskMetrics.countError("INVALID_STATUS");
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(error);
     }
 
     @ExceptionHandler(InvalidTitleException.class)
     public ResponseEntity<ErrorResponse> handleInvalidTitle(InvalidTitleException ex) {
         ErrorResponse error = new ErrorResponse("INVALID_TITLE", ex.getMessage());
-        return ResponseEntity.badRequest().body(error);
+        taskMetrics.countError("INVALID_TITLE");
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(error);
     }
 
     @ExceptionHandler(TaskNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleTaskNotFound(TaskNotFoundException ex) {
         ErrorResponse error = new ErrorResponse("TASK_NOT_FOUND", ex.getMessage());
-        return ResponseEntity.status(404).body(error);
+        taskMetrics.countError("TASK_NOT_FOUND");
+        return ResponseEntity.status(404).contentType(MediaType.APPLICATION_JSON).body(error);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse error = new ErrorResponse("INTERNAL_ERROR", "Something went wrong");
-        return ResponseEntity.status(500).body(error);
+        taskMetrics.countError("INTERNAL_ERROR");
+        return ResponseEntity.status(500).contentType(MediaType.APPLICATION_JSON).body(error);
     }
 
     @ExceptionHandler(InvalidPageOrSizeException.class)
     public ResponseEntity<ErrorResponse> handleInvalidPageOrSize(InvalidPageOrSizeException ex) {
         ErrorResponse error = new ErrorResponse("INVALID_PAGE_OR_SIZE", ex.getMessage());
-        return ResponseEntity.status(400).body(error);
+        taskMetrics.countError("INVALID_PAGE_OR_SIZE");
+        return ResponseEntity.status(400).contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        ErrorResponse error = new ErrorResponse("INVALID_CURSOR", ex.getMessage());
+        taskMetrics.countError("INVALID_CURSOR");
+        return ResponseEntity.status(400).contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+
+    @ExceptionHandler(InvalidBatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBatch(InvalidBatchException ex) {
+        ErrorResponse error = new ErrorResponse("INVALID_BATCH", ex.getMessage());
+        taskMetrics.countError("INVALID_BATCH");
+        return ResponseEntity.status(400).contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQuery(InvalidQueryException ex) {
+        ErrorResponse error = new ErrorResponse("INVALID_QUERY", ex.getMessage());
+        taskMetrics.countError("INVALID_QUERY");
+        return ResponseEntity.status(400).contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+        ErrorResponse error = new ErrorResponse("PRECONDITION_FAILED", ex.getMessage());
+        taskMetrics.countError("PRECONDITION_FAILED");
+        return ResponseEntity.status(412).contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleIngestQueueFull(IngestQueueFullException ex) {
+        ErrorResponse error = new ErrorResponse("INGEST_QUEUE_FULL", ex.getMessage());
+        taskMetrics.countError("INGEST_QUEUE_FULL");
+        return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").contentType(MediaType.APPLICATION_JSON).body(error);
+    }
+
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleNoConnection(Exception ex) {
+        ErrorResponse error = new ErrorResponse("SERVICE_BUSY", "Too many concurrent requests, try again later");
+        taskMetrics.countError("SERVICE_BUSY");
+        return ResponseEntity.status(503).contentType(MediaType.APPLICATION_JSON).body(error);
     }
 }
@@ -0,0 +1,7 @@
+package com.example.taskmanagerapp.exceptions;
+
+public class IngestQueueFullException extends TaskException {
+    public IngestQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagerapp.exceptions;
+
+public class InvalidBatchException extends TaskException {
+    public InvalidBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagerapp.exceptions;
+
+public class InvalidCursorException extends TaskException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.taskmanagerapp.exceptions;
 
-public class InvalidDateException extends RuntimeException {
+public class InvalidDateException extends TaskException {
     public InvalidDateException(String message) {
         super(message);
     }
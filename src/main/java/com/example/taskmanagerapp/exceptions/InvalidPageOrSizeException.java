@@ -1,6 +1,6 @@
 package com.example.taskmanagerapp.exceptions;
 
-public class InvalidPageOrSizeException extends RuntimeException {
+public class InvalidPageOrSizeException extends TaskException {
     public InvalidPageOrSizeException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package com.example.taskmanagerapp.exceptions;
+
+public class InvalidQueryException extends TaskException {
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.taskmanagerapp.exceptions;
 
-public class InvalidStatusException extends RuntimeException {
+public class InvalidStatusException extends TaskException {
     public InvalidStatusException(String message) {
         super(message);
     }
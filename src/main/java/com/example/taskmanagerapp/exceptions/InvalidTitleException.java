@@ -1,6 +1,6 @@
 package com.example.taskmanagerapp.exceptions;
 
-public class InvalidTitleException extends RuntimeException {
+public class InvalidTitleException extends TaskException {
     public InvalidTitleException(String message) {
         super(message);
     }
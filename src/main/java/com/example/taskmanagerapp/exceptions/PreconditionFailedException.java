@@ -0,0 +1,7 @@
+package com.example.taskmanagerapp.exceptions;
+
+public class PreconditionFailedException extends TaskException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
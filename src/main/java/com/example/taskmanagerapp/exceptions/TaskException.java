@@ -0,0 +1,9 @@
+package com.example.taskmanagerapp.exceptions;
+
+// Base of the domain exceptions GlobalExceptionHandler turns into 4xx responses. They carry a message for the client
+// and nothing else, so they skip stack trace capture and suppression, which dominate the cost of a rejected request
+public abstract class TaskException extends RuntimeException {
+    protected TaskException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.taskmanagerapp.exceptions;
 
-public class TaskNotFoundException extends RuntimeException {
+public class TaskNotFoundException extends TaskException {
     public TaskNotFoundException(String message) {
         super(message);
     }
@@ -4,6 +4,7 @@ import com.example.taskmanagerapp.enums.TaskStatus;
 import com.example.taskmanagerapp.dto.TaskRequestDTO;
 import com.example.taskmanagerapp.dto.TaskResponseDTO;
 import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.util.TaskUtils;
 
 import java.time.LocalDate;
 
@@ -18,11 +19,21 @@ public class TaskDtoMapper {
         task.setDescription(dto.getDescription());
         String status = dto.getStatus();
         if (status != null) {
-            task.setStatus(Enum.valueOf(TaskStatus.class, status.toUpperCase()));
+            TaskStatus taskStatus = TaskUtils.parseStatus(status);
+            if (taskStatus == null) {
+                throw new IllegalArgumentException("No TaskStatus constant " + status);
+            }
+            task.setStatus(taskStatus);
         } else {
             task.setStatus(null);
         }
-        task.setDueDate(dto.getDueDate() != null ? LocalDate.parse(dto.getDueDate()) : null);
+        if (dto.getDueDate() != null) {
+            LocalDate dueDate = TaskUtils.parseIsoDate(dto.getDueDate());
+            // Slow path only for input that is already invalid, to keep LocalDate.parse's exception contract
+            task.setDueDate(dueDate != null ? dueDate : LocalDate.parse(dto.getDueDate()));
+        } else {
+            task.setDueDate(null);
+        }
         return task;
     }
 
@@ -42,6 +53,7 @@ public class TaskDtoMapper {
             dto.setStatus(null);
         }
         dto.setDueDate(task.getDueDate());
+        dto.setVersion(task.getVersion());
 
         return dto;
     }
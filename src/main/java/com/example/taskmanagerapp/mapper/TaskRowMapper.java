@@ -0,0 +1,35 @@
+package com.example.taskmanagerapp.mapper;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+// Reads columns by position straight into the model, so every task SELECT must list "id, title, description, status, due_date, version" in that order.
+// Projected queries select NULL in place of the columns they skip
+public class TaskRowMapper implements RowMapper<TaskModel> {
+    public static final TaskRowMapper INSTANCE = new TaskRowMapper();
+
+    private static final int ID = 1;
+    private static final int TITLE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int STATUS = 4;
+    private static final int DUE_DATE = 5;
+    private static final int VERSION = 6;
+
+    @Override
+    public TaskModel mapRow(ResultSet rs, int rowNum) throws SQLException {
+        TaskModel task = new TaskModel();
+        task.setId(rs.getString(ID));
+        task.setTitle(rs.getString(TITLE));
+        task.setDescription(rs.getString(DESCRIPTION));
+        String status = rs.getString(STATUS);
+        task.setStatus(status != null ? TaskStatus.valueOf(status) : null);
+        task.setDueDate(rs.getObject(DUE_DATE, LocalDate.class));
+        task.setVersion(rs.getLong(VERSION));
+        return task;
+    }
+}
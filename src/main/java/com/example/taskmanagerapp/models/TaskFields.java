@@ -0,0 +1,48 @@
+package com.example.taskmanagerapp.models;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Sparse fieldset picked with fields=: the task properties a response carries, as a bitmask. Stores may skip reading
+// the others, and the JSON filter leaves them off the wire
+public final class TaskFields {
+    public static final int ID = 1;
+    public static final int TITLE = 1 << 1;
+    public static final int DESCRIPTION = 1 << 2;
+    public static final int STATUS = 1 << 3;
+    public static final int DUE_DATE = 1 << 4;
+    public static final int VERSION = 1 << 5;
+
+    // Response property names in bit order
+    public static final String[] NAMES = {"id", "title", "description", "status", "dueDate", "version"};
+
+    public static final TaskFields ALL = new TaskFields((1 << NAMES.length) - 1);
+
+    private final int mask;
+
+    public TaskFields(int mask) {
+        this.mask = mask;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean has(int field) {
+        return (mask & field) != 0;
+    }
+
+    public boolean isAll() {
+        return mask == ALL.mask;
+    }
+
+    public Set<String> names() {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                names.add(NAMES[i]);
+            }
+        }
+        return names;
+    }
+}
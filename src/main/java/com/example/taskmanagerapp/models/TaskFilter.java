@@ -0,0 +1,41 @@
+package com.example.taskmanagerapp.models;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Optional listing filters; a null or empty field means no restriction
+public class TaskFilter {
+    private List<TaskStatus> statuses;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+
+    public List<TaskStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<TaskStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDate dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDate dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public boolean isEmpty() {
+        return (statuses == null || statuses.isEmpty()) && dueFrom == null && dueTo == null;
+    }
+}
@@ -10,6 +10,7 @@ public class TaskModel {
     private String description;
     private TaskStatus status;
     private LocalDate dueDate;
+    private long version;
     private boolean isDeleted ;// Add soft delete field
 
     public String getId() {
@@ -52,6 +53,14 @@ public class TaskModel {
         this.dueDate = dueDate;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public boolean isDeleted() {
         return isDeleted;
     }
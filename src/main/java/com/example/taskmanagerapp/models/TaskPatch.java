@@ -0,0 +1,85 @@
+package com.example.taskmanagerapp.models;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+// Validated partial update. Only the fields set here are written; the rest of the task is left as it is.
+// getFields() is a bitmask of them, which the JDBC store uses to pick a statement that touches just those columns
+public class TaskPatch {
+    public static final int TITLE = 1;
+    public static final int DESCRIPTION = 1 << 1;
+    public static final int STATUS = 1 << 2;
+    public static final int DUE_DATE = 1 << 3;
+    public static final int ALL = TITLE | DESCRIPTION | STATUS | DUE_DATE;
+
+    private int fields;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private LocalDate dueDate;
+
+    public int getFields() {
+        return fields;
+    }
+
+    public boolean has(int field) {
+        return (fields & field) != 0;
+    }
+
+    public boolean isEmpty() {
+        return fields == 0;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        fields |= TITLE;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    // null clears the description
+    public void setDescription(String description) {
+        this.description = description;
+        fields |= DESCRIPTION;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        fields |= STATUS;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+        fields |= DUE_DATE;
+    }
+
+    public void applyTo(TaskModel task) {
+        if (has(TITLE)) {
+            task.setTitle(title);
+        }
+        if (has(DESCRIPTION)) {
+            task.setDescription(description);
+        }
+        if (has(STATUS)) {
+            task.setStatus(status);
+        }
+        if (has(DUE_DATE)) {
+            task.setDueDate(dueDate);
+        }
+    }
+}
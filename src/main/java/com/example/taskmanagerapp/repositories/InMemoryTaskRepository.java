@@ -0,0 +1,462 @@
+package com.example.taskmanagerapp.repositories;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// In-process store: a hash map for id lookups plus a skip list ordered by (dueDate, id) for listings and keyset seeks.
+// Stored models are never changed in place, writes swap in a new copy, so reads need no lock. Writes are serialized
+// so both structures change together; a listing running next to a write may or may not see it yet, but never misses
+// or repeats a task that is only being updated. Nothing survives a restart and deletes remove the task outright
+@Repository
+@ConditionalOnProperty(name = "task.store", havingValue = "memory")
+public class InMemoryTaskRepository implements TaskRepository {
+    private final ConcurrentHashMap<String, TaskModel> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<DueDateId, TaskModel> byDueDate = new ConcurrentSkipListMap<>();
+    private final Object writeLock = new Object();
+    // Held for writing while an update moves a task to another due date, which takes two skip list operations.
+    // Listings read optimistically and walk again under the read lock if a move overlapped them
+    private final StampedLock moveLock = new StampedLock();
+    private final AtomicLong changeCount = new AtomicLong();
+    private final long storeEpoch = ThreadLocalRandom.current().nextLong();
+
+    @Override
+    public TaskModel saveTask(String id, String title, String description, String status, LocalDate dueDate) {
+        TaskModel task = newTask(id, title, description, status, dueDate);
+        synchronized (writeLock) {
+            if (tasks.containsKey(id)) {
+                throw new DuplicateKeyException("Task already exists with id: " + id);
+            }
+            put(task);
+        }
+        return copy(task);
+    }
+
+    @Override
+    public int saveTasks(List<TaskModel> newTasks) {
+        List<TaskModel> copies = new ArrayList<>(newTasks.size());
+        for (TaskModel task : newTasks) {
+            copies.add(newTask(task.getId(), task.getTitle(), task.getDescription(),
+                    task.getStatus() != null ? task.getStatus().name() : null, task.getDueDate()));
+        }
+        synchronized (writeLock) {
+            // Check the whole list first so a duplicate leaves nothing behind, like the rolled back JDBC batch
+            Set<String> ids = new HashSet<>();
+            for (TaskModel task : copies) {
+                if (!ids.add(task.getId()) || tasks.containsKey(task.getId())) {
+                    throw new DuplicateKeyException("Task already exists with id: " + task.getId());
+                }
+            }
+            for (TaskModel task : copies) {
+                put(task);
+            }
+        }
+        return copies.size();
+    }
+
+    @Override
+    public TaskModel selectTask(String id) {
+        TaskModel task = id != null ? tasks.get(id) : null;
+        return task != null ? copy(task) : null;
+    }
+
+    @Override
+    public List<TaskModel> selectTasks(List<String> ids) {
+        List<TaskModel> found = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            TaskModel task = selectTask(id);
+            if (task != null) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public TaskModel updateTask(String id, String title, String description, String status, LocalDate dueDate) {
+        if (id == null) {
+            return null;
+        }
+        TaskModel updated = newTask(id, title, description, status, dueDate);
+        synchronized (writeLock) {
+            TaskModel current = tasks.get(id);
+            if (current == null) {
+                return null;
+            }
+            updated.setVersion(current.getVersion() + 1);
+            replace(updated);
+        }
+        return copy(updated);
+    }
+
+    @Override
+    public TaskModel updateTaskIfVersion(String id, String title, String description, String status, LocalDate dueDate, long expectedVersion) {
+        if (id == null) {
+            return null;
+        }
+        TaskModel updated = newTask(id, title, description, status, dueDate);
+        synchronized (writeLock) {
+            TaskModel current = tasks.get(id);
+            if (current == null || current.getVersion() != expectedVersion) {
+                return null;
+            }
+            updated.setVersion(expectedVersion + 1);
+            replace(updated);
+        }
+        return copy(updated);
+    }
+
+    @Override
+    public TaskModel patchTask(String id, TaskPatch patch, Long expectedVersion) {
+        if (id == null) {
+            return null;
+        }
+        TaskModel updated;
+        synchronized (writeLock) {
+            TaskModel current = tasks.get(id);
+            if (current == null || (expectedVersion != null && current.getVersion() != expectedVersion)) {
+                return null;
+            }
+            updated = copy(current);
+            patch.applyTo(updated);
+            updated.setVersion(current.getVersion() + 1);
+            replace(updated);
+        }
+        return copy(updated);
+    }
+
+    @Override
+    public boolean deleteTask(String id) {
+        if (id == null) {
+            return false;
+        }
+        synchronized (writeLock) {
+            return remove(id);
+        }
+    }
+
+    @Override
+    public boolean deleteTaskIfVersion(String id, long expectedVersion) {
+        if (id == null) {
+            return false;
+        }
+        synchronized (writeLock) {
+            TaskModel current = tasks.get(id);
+            return current != null && current.getVersion() == expectedVersion && remove(id);
+        }
+    }
+
+    @Override
+    public int updateTasksStatus(List<String> ids, String status) {
+        TaskStatus newStatus = TaskStatus.valueOf(status);
+        int affected = 0;
+        synchronized (writeLock) {
+            for (String id : ids) {
+                TaskModel task = tasks.get(id);
+                if (task != null) {
+                    TaskModel updated = copy(task);
+                    updated.setStatus(newStatus);
+                    updated.setVersion(task.getVersion() + 1);
+                    replace(updated);
+                    affected++;
+                }
+            }
+        }
+        return affected;
+    }
+
+    @Override
+    public int deleteTasks(List<String> ids) {
+        int affected = 0;
+        synchronized (writeLock) {
+            for (String id : ids) {
+                if (remove(id)) {
+                    affected++;
+                }
+            }
+        }
+        return affected;
+    }
+
+    @Override
+    public int deleteDoneTasksDueBefore(LocalDate dueDate) {
+        int affected = 0;
+        synchronized (writeLock) {
+            for (TaskModel task : byDueDate.headMap(new DueDateId(dueDate, "")).values()) {
+                if (task.getStatus() == TaskStatus.DONE && remove(task.getId())) {
+                    affected++;
+                }
+            }
+        }
+        return affected;
+    }
+
+    // Deletes here are already permanent
+    @Override
+    public int purgeDeletedTasks(LocalDateTime deletedBefore, int limit) {
+        return 0;
+    }
+
+    @Override
+    public long countAllTasks() {
+        return tasks.size();
+    }
+
+    @Override
+    public long changeCount() {
+        return changeCount.get();
+    }
+
+    @Override
+    public long storeEpoch() {
+        return storeEpoch;
+    }
+
+    @Override
+    public List<TaskModel> selectAllTasksPaginated(int limit, int offset) {
+        return selectTasksPaginated(new TaskFilter(), limit, offset);
+    }
+
+    @Override
+    public List<TaskModel> selectTasksAfter(LocalDate dueDate, String id, int limit) {
+        return selectTasksAfter(new TaskFilter(), dueDate, id, limit);
+    }
+
+    // Like OFFSET in SQL, skipped tasks are still walked, so deep pages cost more than keyset pages
+    @Override
+    public List<TaskModel> selectTasksPaginated(TaskFilter filter, int limit, int offset) {
+        return read(() -> walkPage(filter, limit, offset));
+    }
+
+    private List<TaskModel> walkPage(TaskFilter filter, int limit, int offset) {
+        List<TaskModel> page = new ArrayList<>(Math.min(limit, 1000));
+        int skipped = 0;
+        for (TaskModel task : range(filter, null, null)) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (matchesStatus(filter, task)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    page.add(copy(task));
+                }
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public List<TaskModel> selectTasksAfter(TaskFilter filter, LocalDate dueDate, String id, int limit) {
+        return read(() -> walkAfter(filter, dueDate, id, limit));
+    }
+
+    private List<TaskModel> walkAfter(TaskFilter filter, LocalDate dueDate, String id, int limit) {
+        List<TaskModel> page = new ArrayList<>(Math.min(limit, 1000));
+        for (TaskModel task : range(filter, dueDate, id)) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (matchesStatus(filter, task)) {
+                page.add(copy(task));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public long countTasks(TaskFilter filter) {
+        return read(() -> {
+            long count = 0;
+            for (TaskModel task : range(filter, null, null)) {
+                if (matchesStatus(filter, task)) {
+                    count++;
+                }
+            }
+            return count;
+        });
+    }
+
+    // The matching tasks are collected before any reach the consumer, so a slow consumer never holds up moves and
+    // a walk that has to be repeated hands nothing over twice. Stored models are immutable, so this holds references only
+    @Override
+    public void streamTasks(TaskFilter filter, int fetchSize, Consumer<TaskModel> consumer) {
+        List<TaskModel> matching = read(() -> {
+            List<TaskModel> found = new ArrayList<>();
+            for (TaskModel task : range(filter, null, null)) {
+                if (matchesStatus(filter, task)) {
+                    found.add(task);
+                }
+            }
+            return found;
+        });
+        for (TaskModel task : matching) {
+            consumer.accept(copy(task));
+        }
+    }
+
+    // Drops every task. Integration tests call it between tests, since there's no transaction to roll back here
+    public void clear() {
+        synchronized (writeLock) {
+            tasks.clear();
+            byDueDate.clear();
+            changeCount.incrementAndGet();
+        }
+    }
+
+    // Walks byDueDate without blocking writers, and again under the read lock if a task moved meanwhile: a walk
+    // that overlapped a move could have passed the task's new position before it was added and reached its old
+    // one after it was removed
+    private <T> T read(Supplier<T> walk) {
+        long stamp = moveLock.tryOptimisticRead();
+        T result = walk.get();
+        if (moveLock.validate(stamp)) {
+            return result;
+        }
+        stamp = moveLock.readLock();
+        try {
+            return walk.get();
+        } finally {
+            moveLock.unlockRead(stamp);
+        }
+    }
+
+    // Narrows the skip list to the due date range and the position after the cursor, whichever starts later
+    private Collection<TaskModel> range(TaskFilter filter, LocalDate afterDueDate, String afterId) {
+        DueDateId from = null;
+        boolean fromInclusive = true;
+        if (filter.getDueFrom() != null) {
+            from = new DueDateId(filter.getDueFrom(), "");
+        }
+        if (afterDueDate != null && afterId != null) {
+            DueDateId after = new DueDateId(afterDueDate, afterId);
+            if (from == null || after.compareTo(from) >= 0) {
+                from = after;
+                fromInclusive = false;
+            }
+        }
+        // Ids are never empty, so ("", dueTo + 1 day) sorts after every task due on dueTo
+        DueDateId to = filter.getDueTo() != null ? new DueDateId(filter.getDueTo().plusDays(1), "") : null;
+        if (from != null && to != null) {
+            return from.compareTo(to) < 0
+                    ? byDueDate.subMap(from, fromInclusive, to, false).values()
+                    : Collections.emptyList();
+        }
+        if (from != null) {
+            return byDueDate.tailMap(from, fromInclusive).values();
+        }
+        return to != null ? byDueDate.headMap(to, false).values() : byDueDate.values();
+    }
+
+    private static boolean matchesStatus(TaskFilter filter, TaskModel task) {
+        return filter.getStatuses() == null || filter.getStatuses().isEmpty() || filter.getStatuses().contains(task.getStatus());
+    }
+
+    // Adds the task or replaces the stored one, for stores that replay their own log into this one
+    void upsert(TaskModel task) {
+        synchronized (writeLock) {
+            if (!replace(task)) {
+                put(task);
+            }
+        }
+    }
+
+    // Callers hold writeLock
+    // Counted after the change is in place, so a reader that saw the count also sees the change
+    private void put(TaskModel task) {
+        tasks.put(task.getId(), task);
+        byDueDate.put(DueDateId.of(task), task);
+        changeCount.incrementAndGet();
+    }
+
+    // With the same due date the entry's value is swapped in place, which a walk sees as either version. A move is
+    // two skip list operations, so it is done under moveLock
+    private boolean replace(TaskModel updated) {
+        TaskModel current = tasks.get(updated.getId());
+        if (current == null) {
+            return false;
+        }
+        DueDateId from = DueDateId.of(current);
+        DueDateId to = DueDateId.of(updated);
+        if (from.equals(to)) {
+            put(updated);
+            return true;
+        }
+        long stamp = moveLock.writeLock();
+        try {
+            put(updated);
+            byDueDate.remove(from);
+        } finally {
+            moveLock.unlockWrite(stamp);
+        }
+        return true;
+    }
+
+    private boolean remove(String id) {
+        TaskModel current = tasks.remove(id);
+        if (current == null) {
+            return false;
+        }
+        byDueDate.remove(DueDateId.of(current));
+        changeCount.incrementAndGet();
+        return true;
+    }
+
+    static TaskModel newTask(String id, String title, String description, String status, LocalDate dueDate) {
+        TaskModel task = new TaskModel();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status != null ? TaskStatus.valueOf(status) : TaskStatus.PENDING);
+        task.setDueDate(dueDate);
+        task.setVersion(1);
+        return task;
+    }
+
+    static TaskModel copy(TaskModel task) {
+        TaskModel copy = new TaskModel();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setDueDate(task.getDueDate());
+        copy.setVersion(task.getVersion());
+        return copy;
+    }
+
+    // Listing order; ("", date) sorts before every task due on that date
+    private record DueDateId(LocalDate dueDate, String id) implements Comparable<DueDateId> {
+        private static final Comparator<DueDateId> ORDER = Comparator.comparing(DueDateId::dueDate)
+                .thenComparing(DueDateId::id);
+
+        static DueDateId of(TaskModel task) {
+            return new DueDateId(task.getDueDate(), task.getId());
+        }
+
+        @Override
+        public int compareTo(DueDateId other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,545 @@
+package com.example.taskmanagerapp.repositories;
+
+import com.example.taskmanagerapp.enums.IdStorage;
+import com.example.taskmanagerapp.enums.PurgeMode;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.mapper.TaskRowMapper;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+@Repository
+@ConditionalOnProperty(name = "task.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcTaskRepository implements TaskRepository {
+    // Data change delta tables return the written row (with column defaults applied) from the same statement
+    String SAVE_TASK = "SELECT id, title, description, status, due_date, version FROM FINAL TABLE (INSERT INTO task (id, title, description, status, due_date) VALUES (?, ?, ?, ?, ?))";
+    String INSERT_TASK = "INSERT INTO task (id, title, description, status, due_date) VALUES (?, ?, ?, ?, ?)";
+    String SELECT_TASK_BY_ID = "SELECT id, title, description, status, due_date, version FROM task WHERE id = ? and is_deleted = false";
+    String UPDATE_TASK = "SELECT id, title, description, status, due_date, version FROM FINAL TABLE (UPDATE task SET title = ?, description = ?, status = ?, due_date = ?, version = version + 1 WHERE id = ? AND is_deleted = false)";
+    // Compare-and-set for If-Match: no row comes back when the version moved on since the client read it
+    String UPDATE_TASK_IF_VERSION = "SELECT id, title, description, status, due_date, version FROM FINAL TABLE (UPDATE task SET title = ?, description = ?, status = ?, due_date = ?, version = version + 1 WHERE id = ? AND version = ? AND is_deleted = false)";
+    String SELECT_TASKS_BY_IDS = "SELECT id, title, description, status, due_date, version FROM task WHERE id = ANY(?) AND is_deleted = false";
+    String SOFT_DELETE_TASK = "UPDATE task SET is_deleted = true, deleted_at = LOCALTIMESTAMP WHERE id = ? AND is_deleted = false";
+    String SOFT_DELETE_TASK_IF_VERSION = "UPDATE task SET is_deleted = true, deleted_at = LOCALTIMESTAMP WHERE id = ? AND version = ? AND is_deleted = false";
+    // Ids are bound as a single array parameter, so the statement text doesn't grow with the id list
+    String BULK_UPDATE_STATUS = "UPDATE task SET status = ?, version = version + 1 WHERE id = ANY(?) AND is_deleted = false";
+    String BULK_SOFT_DELETE = "UPDATE task SET is_deleted = true, deleted_at = LOCALTIMESTAMP WHERE id = ANY(?) AND is_deleted = false";
+    String SOFT_DELETE_DONE_BEFORE = "UPDATE task SET is_deleted = true, deleted_at = LOCALTIMESTAMP WHERE status = 'DONE' AND due_date < ? AND is_deleted = false";
+    // Seeks idx_task_tombstone_deleted_at; the row limit keeps each purge statement, and the locks it holds, short
+    String PURGE_DELETED = "DELETE FROM task WHERE is_deleted = true AND deleted_at < ? FETCH FIRST ? ROWS ONLY";
+    String ARCHIVE_DELETED = "INSERT INTO task_archive (id, title, description, status, due_date, deleted_at) "
+            + "SELECT id, title, description, status, due_date, deleted_at FROM OLD TABLE (" + PURGE_DELETED + ")";
+
+    // Listings order by the full idx_task_live_due_date_id key. is_deleted is fixed by the WHERE clause, but H2 only reads
+    // rows in index order (and stops after the page) when the ORDER BY names every index column from the first one;
+    // ordering by (due_date, id) alone sorts every live row on each call. The cursor predicate stays (due_date, id):
+    // a row value starting with is_deleted only narrows the index range to is_deleted >= false
+    String SELECT_ALL_TASKS_PAGINATED = "SELECT id, title, description, status, due_date, version FROM task WHERE is_deleted = false ORDER BY is_deleted ASC, due_date ASC, id ASC LIMIT ? OFFSET ?";
+    String SELECT_FIRST_TASKS = "SELECT id, title, description, status, due_date, version FROM task WHERE is_deleted = false ORDER BY is_deleted ASC, due_date ASC, id ASC LIMIT ?";
+    String SELECT_TASKS_AFTER = "SELECT id, title, description, status, due_date, version FROM task WHERE is_deleted = false AND (due_date, id) > (?, ?) ORDER BY is_deleted ASC, due_date ASC, id ASC LIMIT ?";
+    String SELECT_TASKS = "SELECT id, title, description, status, due_date, version FROM task WHERE is_deleted = false";
+    String COUNT_FILTERED_TASKS = "SELECT COUNT(*) FROM task WHERE is_deleted = false";
+    String AFTER_CURSOR = " AND (due_date, id) > (?, ?)";
+    String ORDER_BY_DUE_DATE_ID = " ORDER BY is_deleted ASC, due_date ASC, id ASC";
+    // Same rule for idx_task_live_status_due_date_id when the filter names one status
+    String ORDER_BY_STATUS_DUE_DATE_ID = " ORDER BY is_deleted ASC, status ASC, due_date ASC, id ASC";
+    String MERGE_ORDER_BY_DUE_DATE_ID = " ORDER BY due_date ASC, id ASC";
+    // PATCH statements, one per combination of patched columns and whether the version is checked, indexed by
+    // TaskPatch.getFields() plus PATCH_IF_VERSION. Built once, so each shape always sends the same SQL text and
+    // statement caches keyed by it keep hitting; unpatched columns (often a large description) are not rewritten
+    private static final int PATCH_IF_VERSION = TaskPatch.ALL + 1;
+    private static final String[] PATCH_TASK = patchStatements();
+
+    private static final String COLUMNS = "id, title, description, status, due_date, version";
+
+    // Rows of task_counter; schema.sql inserts ids 0 to COUNTER_STRIPES - 1
+    static final int COUNTER_STRIPES = 16;
+    private static final String COUNT_TASKS = "SELECT SUM(live_count) FROM task_counter";
+    private static final String RECORD_CHANGE = "UPDATE task_counter SET live_count = live_count + ?, change_count = change_count + 1 WHERE id = ?";
+    private static final String SELECT_CHANGE_COUNT = "SELECT SUM(change_count) FROM task_counter";
+    private static final String SELECT_STORE_EPOCH = "SELECT store_epoch FROM task_store WHERE id = 1";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskMetrics taskMetrics;
+
+    // Never changes once the table exists, so it is read once instead of with every listing
+    private volatile Long storeEpoch;
+
+    @Value("${task.id.storage:varchar}")
+    IdStorage idStorage;
+
+    @Value("${task.purge.mode:delete}")
+    PurgeMode purgeMode;
+
+    @Override
+    @Transactional
+    public TaskModel saveTask(String id, String title, String description, String status, LocalDate dueDate) {
+        List<TaskModel> saved = taskMetrics.timeSql("save_task",
+                () -> jdbcTemplate.query(SAVE_TASK, TaskRowMapper.INSTANCE, toKey(id), title, description, status, dueDate));
+        recordChange(1);
+        return saved.get(0);
+    }
+
+    // One transaction and one JDBC batch for the whole list; callers control the chunk size
+    @Override
+    @Transactional
+    public int saveTasks(List<TaskModel> tasks) {
+        taskMetrics.timeSql("insert_tasks", () -> jdbcTemplate.batchUpdate(INSERT_TASK, tasks, tasks.size(), (ps, task) -> {
+            ps.setObject(1, toKey(task.getId()));
+            ps.setString(2, task.getTitle());
+            ps.setString(3, task.getDescription());
+            ps.setString(4, task.getStatus() != null ? task.getStatus().name() : null);
+            ps.setObject(5, task.getDueDate());
+        }));
+        if (!tasks.isEmpty()) {
+            recordChange(tasks.size());
+        }
+        return tasks.size();
+    }
+
+    @Override
+    public TaskModel selectTask(String id) {
+        Object key = toKey(id);
+        if (key == null) {
+            return null;
+        }
+        List<TaskModel> tasks = taskMetrics.timeSql("select_task", () -> jdbcTemplate.query(SELECT_TASK_BY_ID, TaskRowMapper.INSTANCE, key));
+        return tasks.isEmpty() ? null : tasks.get(0); // null when task not found
+    }
+
+    @Override
+    public TaskModel selectTask(String id, TaskFields fields) {
+        Object key = toKey(id);
+        if (key == null) {
+            return null;
+        }
+        String sql = project(SELECT_TASK_BY_ID, fields);
+        List<TaskModel> tasks = taskMetrics.timeSql("select_task_projected", () -> jdbcTemplate.query(sql, TaskRowMapper.INSTANCE, key));
+        return tasks.isEmpty() ? null : tasks.get(0);
+    }
+
+    @Override
+    public List<TaskModel> selectTasks(List<String> ids) {
+        Object[] keys = toKeys(ids);
+        if (keys.length == 0) {
+            return Collections.emptyList();
+        }
+        return taskMetrics.timeSql("select_tasks_by_ids", () -> jdbcTemplate.query(SELECT_TASKS_BY_IDS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf(keyType(), keys)), TaskRowMapper.INSTANCE));
+    }
+
+    @Override
+    @Transactional
+    public TaskModel updateTask(String id, String title, String description, String status, LocalDate dueDate) {
+        Object key = toKey(id);
+        if (key == null) {
+            return null;
+        }
+        try {
+            List<TaskModel> updated = taskMetrics.timeSql("update_task",
+                    () -> jdbcTemplate.query(UPDATE_TASK, TaskRowMapper.INSTANCE, title, description, status, dueDate, key));
+            return changed(updated); // null when task not found
+        } catch (Exception e) {
+            return null; // Update failed
+        }
+    }
+
+    @Override
+    @Transactional
+    public TaskModel updateTaskIfVersion(String id, String title, String description, String status, LocalDate dueDate, long expectedVersion) {
+        Object key = toKey(id);
+        if (key == null) {
+            return null;
+        }
+        List<TaskModel> updated = taskMetrics.timeSql("update_task_if_version",
+                () -> jdbcTemplate.query(UPDATE_TASK_IF_VERSION, TaskRowMapper.INSTANCE, title, description, status, dueDate, key, expectedVersion));
+        return changed(updated);
+    }
+
+    @Override
+    @Transactional
+    public TaskModel patchTask(String id, TaskPatch patch, Long expectedVersion) {
+        Object key = toKey(id);
+        if (key == null || patch.isEmpty()) {
+            return null;
+        }
+        List<Object> args = new ArrayList<>(6);
+        if (patch.has(TaskPatch.TITLE)) {
+            args.add(patch.getTitle());
+        }
+        if (patch.has(TaskPatch.DESCRIPTION)) {
+            args.add(patch.getDescription());
+        }
+        if (patch.has(TaskPatch.STATUS)) {
+            args.add(patch.getStatus().name());
+        }
+        if (patch.has(TaskPatch.DUE_DATE)) {
+            args.add(patch.getDueDate());
+        }
+        args.add(key);
+        if (expectedVersion != null) {
+            args.add(expectedVersion);
+        }
+        String sql = PATCH_TASK[patch.getFields() | (expectedVersion != null ? PATCH_IF_VERSION : 0)];
+        List<TaskModel> updated = taskMetrics.timeSql(expectedVersion != null ? "patch_task_if_version" : "patch_task",
+                () -> jdbcTemplate.query(sql, TaskRowMapper.INSTANCE, args.toArray()));
+        return changed(updated);
+    }
+
+    private static String[] patchStatements() {
+        String[] statements = new String[2 * PATCH_IF_VERSION];
+        for (int fields = 1; fields <= TaskPatch.ALL; fields++) {
+            StringBuilder set = new StringBuilder();
+            if ((fields & TaskPatch.TITLE) != 0) {
+                set.append("title = ?, ");
+            }
+            if ((fields & TaskPatch.DESCRIPTION) != 0) {
+                set.append("description = ?, ");
+            }
+            if ((fields & TaskPatch.STATUS) != 0) {
+                set.append("status = ?, ");
+            }
+            if ((fields & TaskPatch.DUE_DATE) != 0) {
+                set.append("due_date = ?, ");
+            }
+            String update = "SELECT id, title, description, status, due_date, version FROM FINAL TABLE (UPDATE task SET "
+                    + set + "version = version + 1 WHERE id = ?";
+            statements[fields] = update + " AND is_deleted = false)";
+            statements[fields | PATCH_IF_VERSION] = update + " AND version = ? AND is_deleted = false)";
+        }
+        return statements;
+    }
+
+    private TaskModel changed(List<TaskModel> updated) {
+        if (updated.isEmpty()) {
+            return null;
+        }
+        recordChange(0);
+        return updated.get(0);
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteTask(String id) {
+        Object key = toKey(id);
+        if (key == null) {
+            return false;
+        }
+        try {
+            int rowsAffected = taskMetrics.timeSql("soft_delete_task", () -> jdbcTemplate.update(SOFT_DELETE_TASK, key));
+            if (rowsAffected > 0) {
+                recordChange(-rowsAffected);
+            }
+            return rowsAffected > 0; // Returns true if task was found and deleted
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteTaskIfVersion(String id, long expectedVersion) {
+        Object key = toKey(id);
+        if (key == null) {
+            return false;
+        }
+        int rowsAffected = taskMetrics.timeSql("soft_delete_task_if_version",
+                () -> jdbcTemplate.update(SOFT_DELETE_TASK_IF_VERSION, key, expectedVersion));
+        if (rowsAffected > 0) {
+            recordChange(-rowsAffected);
+        }
+        return rowsAffected > 0;
+    }
+
+    @Override
+    @Transactional
+    public int updateTasksStatus(List<String> ids, String status) {
+        Object[] keys = toKeys(ids);
+        if (keys.length == 0) {
+            return 0;
+        }
+        int rowsAffected = taskMetrics.timeSql("bulk_update_status", () -> jdbcTemplate.update(BULK_UPDATE_STATUS, ps -> {
+            ps.setString(1, status);
+            ps.setArray(2, ps.getConnection().createArrayOf(keyType(), keys));
+        }));
+        if (rowsAffected > 0) {
+            recordChange(0);
+        }
+        return rowsAffected;
+    }
+
+    @Override
+    @Transactional
+    public int deleteTasks(List<String> ids) {
+        Object[] keys = toKeys(ids);
+        if (keys.length == 0) {
+            return 0;
+        }
+        int rowsAffected = taskMetrics.timeSql("bulk_soft_delete", () -> jdbcTemplate.update(BULK_SOFT_DELETE,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf(keyType(), keys))));
+        if (rowsAffected > 0) {
+            recordChange(-rowsAffected);
+        }
+        return rowsAffected;
+    }
+
+    @Override
+    @Transactional
+    public int deleteDoneTasksDueBefore(LocalDate dueDate) {
+        int rowsAffected = taskMetrics.timeSql("soft_delete_done_before", () -> jdbcTemplate.update(SOFT_DELETE_DONE_BEFORE, dueDate));
+        if (rowsAffected > 0) {
+            recordChange(-rowsAffected);
+        }
+        return rowsAffected;
+    }
+
+    // Soft-deleted rows were already taken off the live counter, so purging leaves it alone
+    @Override
+    public int purgeDeletedTasks(LocalDateTime deletedBefore, int limit) {
+        if (purgeMode == PurgeMode.ARCHIVE) {
+            return taskMetrics.timeSql("archive_deleted_tasks", () -> jdbcTemplate.update(ARCHIVE_DELETED, deletedBefore, limit));
+        }
+        return taskMetrics.timeSql("purge_deleted_tasks", () -> jdbcTemplate.update(PURGE_DELETED, deletedBefore, limit));
+    }
+
+    @Override
+    public long countAllTasks() {
+        return taskMetrics.timeSql("count_tasks", () -> jdbcTemplate.queryForObject(COUNT_TASKS, Long.class));
+    }
+
+    @Override
+    public long changeCount() {
+        return taskMetrics.timeSql("select_change_count", () -> jdbcTemplate.queryForObject(SELECT_CHANGE_COUNT, Long.class));
+    }
+
+    @Override
+    public long storeEpoch() {
+        Long epoch = storeEpoch;
+        if (epoch == null) {
+            epoch = jdbcTemplate.queryForObject(SELECT_STORE_EPOCH, Long.class);
+            storeEpoch = epoch;
+        }
+        return epoch;
+    }
+
+    // Every path that changes live rows must call this in the same transaction, passing the change in the live count.
+    // Paths that matched no rows skip it, so the list ETag only moves when a listing could come out different.
+    // The row stays locked until commit, so each transaction picks one of the stripes at random
+    private void recordChange(long liveDelta) {
+        int stripe = ThreadLocalRandom.current().nextInt(COUNTER_STRIPES);
+        taskMetrics.timeSql("record_change", () -> jdbcTemplate.update(RECORD_CHANGE, liveDelta, stripe));
+    }
+
+    @Override
+    public List<TaskModel> selectAllTasksPaginated(int limit, int offset) {
+        return taskMetrics.timeSql("select_tasks_page", () -> jdbcTemplate.query(SELECT_ALL_TASKS_PAGINATED, TaskRowMapper.INSTANCE, limit, offset));
+    }
+
+    // Keyset pagination: seeks past (dueDate, id) on the index instead of skipping rows, so cost doesn't grow with depth
+    @Override
+    public List<TaskModel> selectTasksAfter(LocalDate dueDate, String id, int limit) {
+        if (dueDate == null || id == null) {
+            return taskMetrics.timeSql("select_first_tasks", () -> jdbcTemplate.query(SELECT_FIRST_TASKS, TaskRowMapper.INSTANCE, limit));
+        }
+        Object key = toKey(id);
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        return taskMetrics.timeSql("select_tasks_after", () -> jdbcTemplate.query(SELECT_TASKS_AFTER, TaskRowMapper.INSTANCE, dueDate, key, limit));
+    }
+
+    // Filtered variants of the listing queries. Status filters are served by idx_task_live_status_due_date_id,
+    // date-only filters by the (due_date, id) range of idx_task_live_due_date_id; see listingQuery
+    @Override
+    public List<TaskModel> selectTasksPaginated(TaskFilter filter, int limit, int offset) {
+        return selectTasksPaginated(filter, TaskFields.ALL, limit, offset);
+    }
+
+    @Override
+    public List<TaskModel> selectTasksPaginated(TaskFilter filter, TaskFields fields, int limit, int offset) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = listingQuery(project(SELECT_TASKS, fields), filter, null, null, offset + limit, args);
+        sql.append(" LIMIT ? OFFSET ?");
+        args.add(limit);
+        args.add(offset);
+        return taskMetrics.timeSql("select_filtered_page", () -> jdbcTemplate.query(sql.toString(), TaskRowMapper.INSTANCE, args.toArray()));
+    }
+
+    @Override
+    public List<TaskModel> selectTasksAfter(TaskFilter filter, LocalDate dueDate, String id, int limit) {
+        return selectTasksAfter(filter, TaskFields.ALL, dueDate, id, limit);
+    }
+
+    @Override
+    public List<TaskModel> selectTasksAfter(TaskFilter filter, TaskFields fields, LocalDate dueDate, String id, int limit) {
+        Object key = toKey(id);
+        if (id != null && key == null) {
+            return Collections.emptyList();
+        }
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = listingQuery(project(SELECT_TASKS, fields), filter, dueDate, key, limit, args);
+        sql.append(" LIMIT ?");
+        args.add(limit);
+        return taskMetrics.timeSql("select_filtered_after", () -> jdbcTemplate.query(sql.toString(), TaskRowMapper.INSTANCE, args.toArray()));
+    }
+
+    // The live counter only covers the unfiltered total, so filtered totals are counted on the index
+    @Override
+    public long countTasks(TaskFilter filter) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = filteredQuery(COUNT_FILTERED_TASKS, filter, null, null, args);
+        return taskMetrics.timeSql("count_filtered_tasks", () -> jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray()));
+    }
+
+    // Selects NULL instead of the title, description and status columns a fieldset leaves out, keeping every column in
+    // the position TaskRowMapper reads. id, due_date and version are always read: cursors and ETags are built from them
+    static String project(String select, TaskFields fields) {
+        if (fields.has(TaskFields.TITLE) && fields.has(TaskFields.DESCRIPTION) && fields.has(TaskFields.STATUS)) {
+            return select;
+        }
+        String columns = "id, " + (fields.has(TaskFields.TITLE) ? "title" : "NULL")
+                + ", " + (fields.has(TaskFields.DESCRIPTION) ? "description" : "NULL")
+                + ", " + (fields.has(TaskFields.STATUS) ? "status" : "NULL")
+                + ", due_date, version";
+        return select.replace(COLUMNS, columns);
+    }
+
+    // Package-private so tests can EXPLAIN exactly the SQL the listing methods run. The caller appends the LIMIT (and
+    // OFFSET); rows is the most rows they can reach. A single status is one seek on idx_task_live_status_due_date_id.
+    // status IN (...) can only use that index's is_deleted prefix, so several statuses become one seek per status,
+    // each reading at most rows rows in index order, and only those are merged
+    StringBuilder listingQuery(String select, TaskFilter filter, LocalDate afterDueDate, Object afterKey, int rows, List<Object> args) {
+        List<TaskStatus> statuses = statuses(filter);
+        if (statuses.size() < 2) {
+            return filteredQuery(select, filter, afterDueDate, afterKey, args).append(orderBy(filter));
+        }
+        StringBuilder sql = new StringBuilder();
+        for (TaskStatus status : statuses) {
+            sql.append(sql.isEmpty() ? "(" : " UNION ALL (");
+            sql.append(filteredQuery(select, withStatus(filter, status), afterDueDate, afterKey, args));
+            sql.append(ORDER_BY_STATUS_DUE_DATE_ID).append(" LIMIT ?)");
+            args.add(rows);
+        }
+        return sql.append(MERGE_ORDER_BY_DUE_DATE_ID);
+    }
+
+    StringBuilder filteredQuery(String select, TaskFilter filter, LocalDate afterDueDate, Object afterKey, List<Object> args) {
+        StringBuilder sql = new StringBuilder(select);
+        appendFilter(sql, args, filter);
+        if (afterDueDate != null && afterKey != null) {
+            sql.append(AFTER_CURSOR);
+            args.add(afterDueDate);
+            args.add(afterKey);
+        }
+        return sql;
+    }
+
+    // Forward-only cursor with a fetch size, handing each row to the callback so callers never hold the full result
+    @Override
+    public void streamTasks(TaskFilter filter, int fetchSize, Consumer<TaskModel> consumer) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = filteredQuery(SELECT_TASKS, filter, null, null, args);
+        sql.append(orderBy(filter));
+
+        // Includes the time the consumer spends on each row, since rows are handed over while the cursor is open
+        taskMetrics.timeSql("stream_tasks", () -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(TaskRowMapper.INSTANCE.mapRow(rs, rs.getRow()))));
+    }
+
+    // With UUID storage ids are bound as java.util.UUID (read back as canonical strings by getString).
+    // A string that isn't a canonical UUID can't match any row, so it maps to null and callers treat it as not found
+    private Object toKey(String id) {
+        if (idStorage != IdStorage.UUID || id == null) {
+            return id;
+        }
+        if (id.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Object[] toKeys(List<String> ids) {
+        List<Object> keys = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Object key = toKey(id);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys.toArray();
+    }
+
+    private String keyType() {
+        return idStorage == IdStorage.UUID ? "UUID" : "VARCHAR";
+    }
+
+    // An export with several statuses reads them all anyway, so it walks idx_task_live_due_date_id in order and filters
+    private String orderBy(TaskFilter filter) {
+        return statuses(filter).size() == 1 ? ORDER_BY_STATUS_DUE_DATE_ID : ORDER_BY_DUE_DATE_ID;
+    }
+
+    private static List<TaskStatus> statuses(TaskFilter filter) {
+        return filter.getStatuses() == null ? List.of() : filter.getStatuses().stream().distinct().toList();
+    }
+
+    private static TaskFilter withStatus(TaskFilter filter, TaskStatus status) {
+        TaskFilter single = new TaskFilter();
+        single.setStatuses(List.of(status));
+        single.setDueFrom(filter.getDueFrom());
+        single.setDueTo(filter.getDueTo());
+        return single;
+    }
+
+    private void appendFilter(StringBuilder sql, List<Object> args, TaskFilter filter) {
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            sql.append(" AND status IN (");
+            for (int i = 0; i < filter.getStatuses().size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args.add(filter.getStatuses().get(i).name());
+            }
+            sql.append(")");
+        }
+        if (filter.getDueFrom() != null) {
+            sql.append(" AND due_date >= ?");
+            args.add(filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            sql.append(" AND due_date <= ?");
+            args.add(filter.getDueTo());
+        }
+    }
+}
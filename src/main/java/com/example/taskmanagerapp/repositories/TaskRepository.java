@@ -1,103 +1,91 @@
 package com.example.taskmanagerapp.repositories;
 
-import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
 import com.example.taskmanagerapp.models.TaskModel;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.stereotype.Repository;
-
+import com.example.taskmanagerapp.models.TaskPatch;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
-@Repository
-public class TaskRepository {
-    String SAVE_TASK = "INSERT INTO task (id, title, description, status, due_date) VALUES (?, ?, ?, ?, ?)";
-    String SELECT_TASK_BY_ID = "SELECT id, title, description, status, due_date FROM task WHERE id = ? and is_deleted = false";
-    String UPDATE_TASK = "UPDATE task SET title = ?, description = ?, status = ?, due_date = ? WHERE id = ? AND is_deleted = false";
-    String SOFT_DELETE_TASK = "UPDATE task SET is_deleted = true WHERE id = ?";
+// Storage engine for tasks, picked with task.store: jdbc (JdbcTaskRepository, default) or memory (InMemoryTaskRepository).
+// Every listing is ordered by (dueDate, id) and only ever sees live tasks
+public interface TaskRepository {
 
-    String SELECT_ALL_TASKS_PAGINATED = "SELECT id, title, description, status, due_date FROM task WHERE is_deleted = false ORDER BY due_date ASC LIMIT ? OFFSET ?";
-    private static final String COUNT_TASKS = "SELECT COUNT(*) FROM task WHERE is_deleted = false";
+    // Returns the stored task with defaults applied (a null status becomes PENDING)
+    TaskModel saveTask(String id, String title, String description, String status, LocalDate dueDate);
 
-    @Autowired
-    JdbcTemplate jdbcTemplate;
+    // All or nothing: when one task can't be stored, none of the list is
+    int saveTasks(List<TaskModel> tasks);
 
-    public void saveTask(String id, String title, String description, String status, LocalDate dueDate) {
-        jdbcTemplate.update(SAVE_TASK, id, title, description, status, dueDate);
-    }
+    // null when the task doesn't exist or was deleted
+    TaskModel selectTask(String id);
 
-    public TaskModel selectTask(String id) {
-        try {
-            Map<String, Object> result = jdbcTemplate.queryForMap(SELECT_TASK_BY_ID, id);
-            TaskModel task = new TaskModel();
-            task.setId((String) result.get("id"));
-            task.setTitle((String) result.get("title"));
-            task.setDescription((String) result.get("description"));
-            task.setStatus(TaskStatus.valueOf((String) result.get("status")));
-            // Handle date conversion properly - remove duplicate calls
-            Object dueDateObj = result.get("due_date");
-            if (dueDateObj != null) {
-                if (dueDateObj instanceof java.sql.Date) {
-                    task.setDueDate(((java.sql.Date) dueDateObj).toLocalDate());
-                } else if (dueDateObj instanceof LocalDate) {
-                    task.setDueDate((LocalDate) dueDateObj);
-                }
-            }
-            return task;
-        } catch (Exception e) {
-            return null; // Task not found
-        }
-    }
+    // In no particular order; deleted or unknown ids are simply missing
+    List<TaskModel> selectTasks(List<String> ids);
 
-    public boolean updateTask(String id, String title, String description, String status, LocalDate dueDate) {
-        try {
-            int rowsAffected = jdbcTemplate.update(UPDATE_TASK, title, description, status, dueDate, id);
-            return rowsAffected > 0; // Returns true if task was found and updated
-        } catch (Exception e) {
-            return false; // Update failed
-        }
-    }
+    // null when the task doesn't exist or was deleted. Every write to a task increments its version
+    TaskModel updateTask(String id, String title, String description, String status, LocalDate dueDate);
 
-    public boolean deleteTask(String id) {
-        try {
-            int rowsAffected = jdbcTemplate.update(SOFT_DELETE_TASK, id);
-            return rowsAffected > 0; // Returns true if task was found and deleted
-        } catch (Exception e) {
-            return false;
-        }
+    // Reads only the given fields; the others may come back null. Stores that hold whole tasks in memory have nothing
+    // to save by skipping them and return whole tasks
+    default TaskModel selectTask(String id, TaskFields fields) {
+        return selectTask(id);
     }
 
-    public long countAllTasks() {
-        return jdbcTemplate.queryForObject(COUNT_TASKS, Long.class);
+    // Only updates while the task is still at expectedVersion; null otherwise, so callers tell a stale version
+    // from a missing task by looking the task up again
+    TaskModel updateTaskIfVersion(String id, String title, String description, String status, LocalDate dueDate, long expectedVersion);
+
+    // Writes only the fields set in the patch, which must not be empty, and bumps the version. With an expectedVersion it
+    // behaves like updateTaskIfVersion; null patches whatever version is current
+    TaskModel patchTask(String id, TaskPatch patch, Long expectedVersion);
+
+    boolean deleteTask(String id);
+
+    boolean deleteTaskIfVersion(String id, long expectedVersion);
+
+    int updateTasksStatus(List<String> ids, String status);
+
+    int deleteTasks(List<String> ids);
+
+    int deleteDoneTasksDueBefore(LocalDate dueDate);
+
+    // Removes for good at most limit tasks that were deleted before the given time and returns how many.
+    // Stores that delete outright keep no deleted tasks and return 0
+    int purgeDeletedTasks(LocalDateTime deletedBefore, int limit);
+
+    long countAllTasks();
+
+    // Goes up with every write that can change a listing; read it before listing and the result is at least that new
+    long changeCount();
+
+    // Random per store, fixed for its lifetime. Paired with changeCount in the list ETag, so a store that was
+    // recreated or lost writes it had counted can't repeat a tag for different content
+    long storeEpoch();
+
+    List<TaskModel> selectAllTasksPaginated(int limit, int offset);
+
+    // Tasks after the (dueDate, id) position; from the start when either is null
+    List<TaskModel> selectTasksAfter(LocalDate dueDate, String id, int limit);
+
+    List<TaskModel> selectTasksPaginated(TaskFilter filter, int limit, int offset);
+
+    List<TaskModel> selectTasksAfter(TaskFilter filter, LocalDate dueDate, String id, int limit);
+
+    // Projected listings, same contract as selectTask(id, fields). An empty filter lists every task
+    default List<TaskModel> selectTasksPaginated(TaskFilter filter, TaskFields fields, int limit, int offset) {
+        return selectTasksPaginated(filter, limit, offset);
     }
 
-    public List<TaskModel> selectAllTasksPaginated(int limit, int offset) {
-        List<Map<String, Object>> results = jdbcTemplate.queryForList(SELECT_ALL_TASKS_PAGINATED, limit, offset);
-
-        List<TaskModel> tasks = new ArrayList<>();
-
-        for (Map<String, Object> result : results) {
-            TaskModel task = new TaskModel();
-            task.setId((String) result.get("id"));
-            task.setTitle((String) result.get("title"));
-            task.setDescription((String) result.get("description"));
-            task.setStatus(TaskStatus.valueOf((String) result.get("status")));
-
-            // Handle date conversion properly
-            Object dueDateObj = result.get("due_date");
-            if (dueDateObj != null) {
-                if (dueDateObj instanceof java.sql.Date) {
-                    task.setDueDate(((java.sql.Date) dueDateObj).toLocalDate());
-                } else if (dueDateObj instanceof java.time.LocalDate) {
-                    task.setDueDate((LocalDate) dueDateObj);
-                }
-            }
-
-            tasks.add(task);
-        }
-        return tasks;
+    default List<TaskModel> selectTasksAfter(TaskFilter filter, TaskFields fields, LocalDate dueDate, String id, int limit) {
+        return selectTasksAfter(filter, dueDate, id, limit);
     }
+
+    long countTasks(TaskFilter filter);
+
+    // Hands every matching task to the consumer in order, without holding the full result
+    void streamTasks(TaskFilter filter, int fetchSize, Consumer<TaskModel> consumer);
 }
@@ -0,0 +1,409 @@
+package com.example.taskmanagerapp.repositories;
+
+import com.example.taskmanagerapp.enums.FsyncPolicy;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import com.example.taskmanagerapp.wal.LogRecord;
+import com.example.taskmanagerapp.wal.SnapshotFile;
+import com.example.taskmanagerapp.wal.WriteAheadLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Durable in-process store: reads are served by an InMemoryTaskRepository, and every write is appended to a
+// write-ahead log before it is applied there. Snapshots of the whole store are taken periodically so the log
+// can be trimmed; at startup the latest snapshot is loaded and the log after it replayed.
+// A write returns once its record is durable under task.wal.fsync
+@Repository
+@ConditionalOnProperty(name = "task.store", havingValue = "wal")
+public class WalTaskRepository implements TaskRepository, MeterBinder {
+
+    @Value("${task.wal.directory:data/wal}")
+    Path directory;
+
+    @Value("${task.wal.fsync:group}")
+    FsyncPolicy fsyncPolicy;
+
+    @Value("${task.wal.fsync-interval-ms:10}")
+    long fsyncIntervalMillis;
+
+    @Value("${task.wal.segment-size-mb:64}")
+    int segmentSizeMb;
+
+    @Value("${task.wal.snapshot-interval-ms:300000}")
+    long snapshotIntervalMillis;
+
+    private final InMemoryTaskRepository memory = new InMemoryTaskRepository();
+    // Appending and applying happen together, so the log order is the order writes become visible
+    private final Object writeLock = new Object();
+    private final Object snapshotLock = new Object();
+    private WriteAheadLog log;
+    private ScheduledExecutorService snapshotter;
+    private volatile long snapshotLsn;
+    // LSN of the last write applied to memory, served as the change count; unlike a counter in memory it survives restarts
+    private volatile long appliedLsn;
+    // Drawn on every open: under a lazy fsync policy a crash can drop the tail of the log, and the LSNs that get
+    // reused after recovery then stand for different content
+    private volatile long storeEpoch;
+    private volatile double recoverySeconds;
+    private final AtomicLong snapshotFailures = new AtomicLong();
+
+    @PostConstruct
+    public void open() throws IOException {
+        long start = System.nanoTime();
+        storeEpoch = ThreadLocalRandom.current().nextLong();
+        SnapshotFile.deleteTemporaryFiles(directory);
+        snapshotLsn = SnapshotFile.loadLatest(directory, memory::upsert);
+        log = new WriteAheadLog(directory, segmentSizeMb * 1024 * 1024, fsyncPolicy, fsyncIntervalMillis);
+        appliedLsn = log.recover(snapshotLsn, this::apply);
+        recoverySeconds = (System.nanoTime() - start) / 1e9;
+        if (snapshotIntervalMillis > 0) {
+            snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wal-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (snapshotter != null) {
+            snapshotter.shutdownNow();
+        }
+        log.close();
+    }
+
+    @Override
+    public TaskModel saveTask(String id, String title, String description, String status, LocalDate dueDate) {
+        TaskModel task = InMemoryTaskRepository.newTask(id, title, description, status, dueDate);
+        long lsn;
+        synchronized (writeLock) {
+            if (memory.selectTask(id) != null) {
+                throw new DuplicateKeyException("Task already exists with id: " + id);
+            }
+            lsn = put(List.of(task));
+        }
+        log.awaitDurable(lsn);
+        return InMemoryTaskRepository.copy(task);
+    }
+
+    // One log record for the whole list, so a crash replays all of it or none
+    @Override
+    public int saveTasks(List<TaskModel> newTasks) {
+        List<TaskModel> copies = new ArrayList<>(newTasks.size());
+        for (TaskModel task : newTasks) {
+            copies.add(InMemoryTaskRepository.newTask(task.getId(), task.getTitle(), task.getDescription(),
+                    task.getStatus() != null ? task.getStatus().name() : null, task.getDueDate()));
+        }
+        long lsn;
+        synchronized (writeLock) {
+            Set<String> ids = new HashSet<>();
+            for (TaskModel task : copies) {
+                if (!ids.add(task.getId()) || memory.selectTask(task.getId()) != null) {
+                    throw new DuplicateKeyException("Task already exists with id: " + task.getId());
+                }
+            }
+            lsn = put(copies);
+        }
+        log.awaitDurable(lsn);
+        return copies.size();
+    }
+
+    @Override
+    public TaskModel selectTask(String id) {
+        return memory.selectTask(id);
+    }
+
+    @Override
+    public List<TaskModel> selectTasks(List<String> ids) {
+        return memory.selectTasks(ids);
+    }
+
+    @Override
+    public TaskModel updateTask(String id, String title, String description, String status, LocalDate dueDate) {
+        if (id == null) {
+            return null;
+        }
+        return update(InMemoryTaskRepository.newTask(id, title, description, status, dueDate), null);
+    }
+
+    @Override
+    public TaskModel updateTaskIfVersion(String id, String title, String description, String status, LocalDate dueDate, long expectedVersion) {
+        if (id == null) {
+            return null;
+        }
+        return update(InMemoryTaskRepository.newTask(id, title, description, status, dueDate), expectedVersion);
+    }
+
+    // The log record still carries the whole task: replay relies on every record being a full task or a delete
+    @Override
+    public TaskModel patchTask(String id, TaskPatch patch, Long expectedVersion) {
+        if (id == null) {
+            return null;
+        }
+        long lsn;
+        TaskModel updated;
+        synchronized (writeLock) {
+            updated = memory.selectTask(id);
+            if (updated == null || (expectedVersion != null && updated.getVersion() != expectedVersion)) {
+                return null;
+            }
+            patch.applyTo(updated);
+            updated.setVersion(updated.getVersion() + 1);
+            lsn = put(List.of(updated));
+        }
+        log.awaitDurable(lsn);
+        return InMemoryTaskRepository.copy(updated);
+    }
+
+    private TaskModel update(TaskModel updated, Long expectedVersion) {
+        long lsn;
+        synchronized (writeLock) {
+            TaskModel current = memory.selectTask(updated.getId());
+            if (current == null || (expectedVersion != null && current.getVersion() != expectedVersion)) {
+                return null;
+            }
+            updated.setVersion(current.getVersion() + 1);
+            lsn = put(List.of(updated));
+        }
+        log.awaitDurable(lsn);
+        return InMemoryTaskRepository.copy(updated);
+    }
+
+    @Override
+    public boolean deleteTask(String id) {
+        return id != null && deleteTasks(List.of(id)) == 1;
+    }
+
+    @Override
+    public boolean deleteTaskIfVersion(String id, long expectedVersion) {
+        if (id == null) {
+            return false;
+        }
+        long lsn;
+        synchronized (writeLock) {
+            TaskModel current = memory.selectTask(id);
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            lsn = delete(List.of(id));
+        }
+        log.awaitDurable(lsn);
+        return true;
+    }
+
+    @Override
+    public int updateTasksStatus(List<String> ids, String status) {
+        TaskStatus newStatus = TaskStatus.valueOf(status);
+        long lsn;
+        List<TaskModel> updated;
+        synchronized (writeLock) {
+            updated = memory.selectTasks(new ArrayList<>(new HashSet<>(ids)));
+            if (updated.isEmpty()) {
+                return 0;
+            }
+            for (TaskModel task : updated) {
+                task.setStatus(newStatus);
+                task.setVersion(task.getVersion() + 1);
+            }
+            lsn = put(updated);
+        }
+        log.awaitDurable(lsn);
+        return updated.size();
+    }
+
+    @Override
+    public int deleteTasks(List<String> ids) {
+        long lsn;
+        List<String> existing = new ArrayList<>();
+        synchronized (writeLock) {
+            for (TaskModel task : memory.selectTasks(new ArrayList<>(new HashSet<>(ids)))) {
+                existing.add(task.getId());
+            }
+            if (existing.isEmpty()) {
+                return 0;
+            }
+            lsn = delete(existing);
+        }
+        log.awaitDurable(lsn);
+        return existing.size();
+    }
+
+    @Override
+    public int deleteDoneTasksDueBefore(LocalDate dueDate) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(List.of(TaskStatus.DONE));
+        filter.setDueTo(dueDate.minusDays(1));
+        long lsn;
+        List<String> ids = new ArrayList<>();
+        synchronized (writeLock) {
+            memory.streamTasks(filter, 0, task -> ids.add(task.getId()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            lsn = delete(ids);
+        }
+        log.awaitDurable(lsn);
+        return ids.size();
+    }
+
+    // Deletes here are already permanent
+    @Override
+    public int purgeDeletedTasks(LocalDateTime deletedBefore, int limit) {
+        return 0;
+    }
+
+    @Override
+    public long countAllTasks() {
+        return memory.countAllTasks();
+    }
+
+    @Override
+    public long changeCount() {
+        return appliedLsn;
+    }
+
+    @Override
+    public long storeEpoch() {
+        return storeEpoch;
+    }
+
+    @Override
+    public List<TaskModel> selectAllTasksPaginated(int limit, int offset) {
+        return memory.selectAllTasksPaginated(limit, offset);
+    }
+
+    @Override
+    public List<TaskModel> selectTasksAfter(LocalDate dueDate, String id, int limit) {
+        return memory.selectTasksAfter(dueDate, id, limit);
+    }
+
+    @Override
+    public List<TaskModel> selectTasksPaginated(TaskFilter filter, int limit, int offset) {
+        return memory.selectTasksPaginated(filter, limit, offset);
+    }
+
+    @Override
+    public List<TaskModel> selectTasksAfter(TaskFilter filter, LocalDate dueDate, String id, int limit) {
+        return memory.selectTasksAfter(filter, dueDate, id, limit);
+    }
+
+    @Override
+    public long countTasks(TaskFilter filter) {
+        return memory.countTasks(filter);
+    }
+
+    @Override
+    public void streamTasks(TaskFilter filter, int fetchSize, Consumer<TaskModel> consumer) {
+        memory.streamTasks(filter, fetchSize, consumer);
+    }
+
+    // Writes a snapshot and drops the log segments and older snapshots it makes redundant. Writes keep going
+    // while the store is copied, so the snapshot may already hold some records after its LSN; replaying those
+    // again is harmless because every record carries whole tasks or plain deletes
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            long lsn;
+            synchronized (writeLock) {
+                lsn = log.lastLsn();
+            }
+            if (lsn == snapshotLsn) {
+                return;
+            }
+            // Records copied into the snapshot must not be newer than what the log can replay after a crash
+            SnapshotFile.write(directory, lsn, consumer -> {
+                memory.streamTasks(new TaskFilter(), 0, consumer);
+                log.sync();
+            });
+            snapshotLsn = lsn;
+            log.deleteSegmentsThrough(lsn);
+            SnapshotFile.deleteOlderThan(directory, lsn);
+        }
+    }
+
+    public int segmentCount() {
+        return log.segmentCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("task.wal.recovery", this, repository -> repository.recoverySeconds)
+                .description("Time spent loading the snapshot and replaying the log at startup")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("task.wal.segments", this, WalTaskRepository::segmentCount)
+                .description("Write-ahead log segment files on disk")
+                .register(registry);
+        Gauge.builder("task.wal.lsn", this, repository -> repository.log.lastLsn())
+                .description("Sequence number of the last logged write")
+                .register(registry);
+        FunctionCounter.builder("task.wal.sync.failures", this, repository -> repository.log.syncFailures())
+                .description("Failed forces of the log to disk; the first one stops further writes until a restart")
+                .register(registry);
+        FunctionCounter.builder("task.wal.snapshot.failures", this, repository -> repository.snapshotFailures.get())
+                .description("Scheduled snapshots that failed; the log keeps growing until one succeeds")
+                .register(registry);
+    }
+
+    // Callers hold writeLock; the record is in the log before the change is visible
+    private long put(List<TaskModel> tasks) {
+        long lsn = log.append(LogRecord.put(tasks));
+        for (TaskModel task : tasks) {
+            memory.upsert(task);
+        }
+        appliedLsn = lsn;
+        return lsn;
+    }
+
+    private long delete(List<String> ids) {
+        long lsn = log.append(LogRecord.delete(ids));
+        memory.deleteTasks(ids);
+        appliedLsn = lsn;
+        return lsn;
+    }
+
+    private void apply(LogRecord record) {
+        if (record.isPut()) {
+            for (TaskModel task : record.getTasks()) {
+                memory.upsert(task);
+            }
+        } else {
+            memory.deleteTasks(record.getTaskIds());
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            // Retried on the next tick; until then the log just keeps growing
+            snapshotFailures.incrementAndGet();
+        }
+    }
+}
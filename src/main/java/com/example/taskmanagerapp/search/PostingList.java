@@ -0,0 +1,91 @@
+package com.example.taskmanagerapp.search;
+
+import java.util.Arrays;
+
+// Doc ids of one term in increasing order, stored as varint (docId delta, term frequency) pairs.
+// Most deltas and frequencies fit in one byte, so a posting usually costs two bytes instead of two ints
+class PostingList {
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDocId = -1;
+    private int docCount;
+    // Live docs in this list as (index removal count << 32 | count), cached by searches while the index holds
+    // tombstones; stale as soon as the index removes another doc
+    volatile long liveDocCount = -1;
+
+    // Doc ids are handed out in increasing order, so appending keeps the list sorted
+    void add(int docId, int termFrequency) {
+        ensureCapacity(10);
+        writeVarint(docId - lastDocId);
+        writeVarint(termFrequency);
+        lastDocId = docId;
+        docCount++;
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    void trim() {
+        bytes = Arrays.copyOf(bytes, Math.max(length, 1));
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    // Forward-only reader; next() must be called before the first docId()
+    class Cursor {
+        private int position;
+        private int docId = -1;
+        private int termFrequency;
+
+        boolean next() {
+            if (position >= length) {
+                docId = Integer.MAX_VALUE;
+                return false;
+            }
+            docId += readVarint();
+            termFrequency = readVarint();
+            return true;
+        }
+
+        int docId() {
+            return docId;
+        }
+
+        int termFrequency() {
+            return termFrequency;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
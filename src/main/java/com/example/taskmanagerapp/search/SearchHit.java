@@ -0,0 +1,19 @@
+package com.example.taskmanagerapp.search;
+
+public class SearchHit {
+    private final String taskId;
+    private final float score;
+
+    public SearchHit(String taskId, float score) {
+        this.taskId = taskId;
+        this.score = score;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public float getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagerapp.search;
+
+import java.util.List;
+
+public class SearchResult {
+    private final List<SearchHit> hits;
+    private final long totalHits;
+
+    public SearchResult(List<SearchHit> hits, long totalHits) {
+        this.hits = hits;
+        this.totalHits = totalHits;
+    }
+
+    // Best match first
+    public List<SearchHit> getHits() {
+        return hits;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+}
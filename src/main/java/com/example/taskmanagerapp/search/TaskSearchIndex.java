@@ -0,0 +1,413 @@
+package com.example.taskmanagerapp.search;
+
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// In-process inverted index over task title and description, ranked with BM25.
+// Each task gets an internal doc number in insertion order; updates and deletes tombstone the old number
+// and compaction renumbers the live documents once tombstones outweigh them
+@Component
+public class TaskSearchIndex implements MeterBinder {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Value("${task.export.fetch-size:1000}")
+    int fetchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docNumbers = new HashMap<>();
+    private String[] taskIds = new String[1024];
+    private int[] docLengths = new int[1024];
+    private long[] docVersions = new long[1024];
+    private final BitSet deleted = new BitSet();
+    private int nextDocNumber;
+    private int liveDocs;
+    private int deletedDocs;
+    private int removals;
+    private long liveLength;
+    private long postingBytes;
+
+    @PostConstruct
+    void build() {
+        lock.writeLock().lock();
+        try {
+            taskRepository.streamTasks(new TaskFilter(), fetchSize, this::addDocument);
+            trimPostings();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds the task or replaces the text indexed for it, unless a newer version of the task is indexed already
+    public void index(TaskModel task) {
+        lock.writeLock().lock();
+        try {
+            if (isOlderThanIndexed(task)) {
+                return;
+            }
+            removeDocument(task.getId());
+            addDocument(task);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexAll(Collection<TaskModel> tasks) {
+        lock.writeLock().lock();
+        try {
+            for (TaskModel task : tasks) {
+                if (!isOlderThanIndexed(task)) {
+                    removeDocument(task.getId());
+                    addDocument(task);
+                }
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String taskId) {
+        removeAll(Collections.singletonList(taskId));
+    }
+
+    public void removeAll(Collection<String> taskIds) {
+        lock.writeLock().lock();
+        try {
+            for (String taskId : taskIds) {
+                removeDocument(taskId);
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Any-term match. Posting lists are walked together in doc order, so scoring needs no per-document
+    // accumulator and the only allocation that depends on the result size is the top-k heap
+    public SearchResult search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        Tokenizer.tokenize(query, terms::add);
+
+        lock.readLock().lock();
+        try {
+            PostingList.Cursor[] cursors = new PostingList.Cursor[terms.size()];
+            float[] idfs = new float[terms.size()];
+            int termCount = 0;
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList != null) {
+                    cursors[termCount] = postingList.cursor();
+                    cursors[termCount].next();
+                    idfs[termCount++] = idf(liveDocFrequency(postingList));
+                }
+            }
+            if (termCount == 0 || liveDocs == 0) {
+                return new SearchResult(Collections.emptyList(), 0);
+            }
+
+            float averageLength = (float) liveLength / liveDocs;
+            TopHits top = new TopHits(limit);
+            long totalHits = 0;
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = 0; i < termCount; i++) {
+                    doc = Math.min(doc, cursors[i].docId());
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+                boolean live = !deleted.get(doc);
+                float lengthNorm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                float score = 0;
+                for (int i = 0; i < termCount; i++) {
+                    PostingList.Cursor cursor = cursors[i];
+                    if (cursor.docId() == doc) {
+                        int tf = cursor.termFrequency();
+                        score += idfs[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                        cursor.next();
+                    }
+                }
+                if (live) {
+                    totalHits++;
+                    top.offer(doc, score);
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(top.size);
+            for (int i : top.sortedIndexes()) {
+                hits.add(new SearchHit(taskIds[top.docs[i]], top.scores[i]));
+            }
+            return new SearchResult(hits, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("task.search.documents", this, TaskSearchIndex::size)
+                .description("Live tasks in the search index")
+                .register(registry);
+        Gauge.builder("task.search.terms", this, index -> index.readLocked(index.postings::size))
+                .description("Distinct terms in the search index")
+                .register(registry);
+        Gauge.builder("task.search.posting.bytes", this, index -> index.readLocked(() -> index.postingBytes))
+                .description("Encoded size of all posting lists")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private double readLocked(Supplier<? extends Number> value) {
+        lock.readLock().lock();
+        try {
+            return value.get().doubleValue();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers index after their repository write returns, outside its ordering, so two racing updates of one task can
+    // arrive here in either order. The version each doc was indexed at keeps the older text from replacing the newer.
+    // Callers hold the write lock
+    private boolean isOlderThanIndexed(TaskModel task) {
+        Integer doc = docNumbers.get(task.getId());
+        return doc != null && docVersions[doc] > task.getVersion();
+    }
+
+    private void addDocument(TaskModel task) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        Tokenizer.tokenize(task.getTitle(), term -> frequencies.merge(term, 1, Integer::sum));
+        Tokenizer.tokenize(task.getDescription(), term -> frequencies.merge(term, 1, Integer::sum));
+
+        int doc = nextDocNumber++;
+        if (doc == taskIds.length) {
+            taskIds = Arrays.copyOf(taskIds, doc * 2);
+            docLengths = Arrays.copyOf(docLengths, doc * 2);
+            docVersions = Arrays.copyOf(docVersions, doc * 2);
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            PostingList postingList = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+            int before = postingList.sizeInBytes();
+            postingList.add(doc, entry.getValue());
+            postingBytes += postingList.sizeInBytes() - before;
+            length += entry.getValue();
+        }
+        taskIds[doc] = task.getId();
+        docLengths[doc] = length;
+        docVersions[doc] = task.getVersion();
+        docNumbers.put(task.getId(), doc);
+        liveDocs++;
+        liveLength += length;
+    }
+
+    private void removeDocument(String taskId) {
+        Integer doc = docNumbers.remove(taskId);
+        if (doc != null) {
+            deleted.set(doc);
+            deletedDocs++;
+            removals++;
+            liveDocs--;
+            liveLength -= docLengths[doc];
+        }
+    }
+
+    private void compactIfSparse() {
+        if (deletedDocs > Math.max(liveDocs, 1024)) {
+            compact();
+        }
+    }
+
+    // Rewrites every posting list without tombstoned docs. Renumbering keeps the relative order of live docs,
+    // so the rewritten lists stay sorted and delta encoded
+    private void compact() {
+        int[] renumbered = new int[nextDocNumber];
+        int live = 0;
+        for (int doc = 0; doc < nextDocNumber; doc++) {
+            if (deleted.get(doc)) {
+                renumbered[doc] = -1;
+            } else {
+                renumbered[doc] = live;
+                taskIds[live] = taskIds[doc];
+                docLengths[live] = docLengths[doc];
+                docVersions[live] = docVersions[doc];
+                docNumbers.put(taskIds[live], live);
+                live++;
+            }
+        }
+        postingBytes = 0;
+        Iterator<Map.Entry<String, PostingList>> entries = postings.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, PostingList> entry = entries.next();
+            PostingList rewritten = new PostingList();
+            PostingList.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) {
+                int doc = renumbered[cursor.docId()];
+                if (doc >= 0) {
+                    rewritten.add(doc, cursor.termFrequency());
+                }
+            }
+            if (rewritten.docCount() == 0) {
+                entries.remove();
+            } else {
+                rewritten.trim();
+                entry.setValue(rewritten);
+                postingBytes += rewritten.sizeInBytes();
+            }
+        }
+        int capacity = Math.max(1024, live * 2);
+        taskIds = Arrays.copyOf(taskIds, capacity);
+        Arrays.fill(taskIds, live, capacity, null);
+        docLengths = Arrays.copyOf(docLengths, capacity);
+        docVersions = Arrays.copyOf(docVersions, capacity);
+        deleted.clear();
+        deletedDocs = 0;
+        nextDocNumber = live;
+    }
+
+    private void trimPostings() {
+        for (PostingList postingList : postings.values()) {
+            postingList.trim();
+        }
+    }
+
+    // Posting lists keep tombstoned docs until compaction, and a task updated many times leaves one per update. Those
+    // must not count: a df above liveDocs turns idf negative and ranks the task last. Removals don't know which terms
+    // the doc had, so while tombstones exist the live count is taken by walking the list, then cached on it until the
+    // next removal. Callers hold the read lock
+    private int liveDocFrequency(PostingList postingList) {
+        if (deletedDocs == 0) {
+            return postingList.docCount();
+        }
+        long cached = postingList.liveDocCount;
+        if ((int) (cached >>> 32) == removals) {
+            return (int) cached;
+        }
+        int live = 0;
+        PostingList.Cursor cursor = postingList.cursor();
+        while (cursor.next()) {
+            if (!deleted.get(cursor.docId())) {
+                live++;
+            }
+        }
+        postingList.liveDocCount = ((long) removals << 32) | live;
+        return live;
+    }
+
+    private float idf(int docFrequency) {
+        return (float) Math.log(1 + (liveDocs - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+
+    // Fixed-size min-heap on score; ties prefer the older document so results are stable
+    private static class TopHits {
+        final int[] docs;
+        final float[] scores;
+        int size;
+
+        TopHits(int limit) {
+            docs = new int[limit];
+            scores = new float[limit];
+        }
+
+        void offer(int doc, float score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (docs.length > 0 && score > scores[0]) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        Integer[] sortedIndexes() {
+            Integer[] indexes = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                indexes[i] = i;
+            }
+            Arrays.sort(indexes, (a, b) -> scores[a] != scores[b] ? Float.compare(scores[b], scores[a]) : Integer.compare(docs[a], docs[b]));
+            return indexes;
+        }
+
+        private boolean less(int a, int b) {
+            return scores[a] < scores[b] || (scores[a] == scores[b] && docs[a] > docs[b]);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!less(i, parent)) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && less(left, smallest)) {
+                    smallest = left;
+                }
+                if (right < size && less(right, smallest)) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
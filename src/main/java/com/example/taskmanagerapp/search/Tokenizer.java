@@ -0,0 +1,37 @@
+package com.example.taskmanagerapp.search;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Splits text on anything that isn't a letter or digit and lower-cases each token.
+// Very short tokens and a few English stop words are dropped; they match most tasks and carry almost no ranking weight
+public class Tokenizer {
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final int MAX_TOKEN_LENGTH = 32;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "that", "the", "to", "was", "with");
+
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder token = new StringBuilder(MAX_TOKEN_LENGTH);
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.append(Character.toLowerCase(c));
+                }
+            } else if (!token.isEmpty()) {
+                if (token.length() >= MIN_TOKEN_LENGTH) {
+                    String term = token.toString();
+                    if (!STOP_WORDS.contains(term)) {
+                        sink.accept(term);
+                    }
+                }
+                token.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanagerapp.services;
+
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Service
+public class TaskExportService {
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${task.export.fetch-size:1000}")
+    int fetchSize;
+
+    // Writes one JSON object per line as rows arrive, so heap use doesn't depend on how many tasks match
+    public void exportTasks(TaskFilter filter, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            taskRepository.streamTasks(filter, fetchSize, task -> {
+                try {
+                    writer.writeValue(generator, TaskDtoMapper.toResponseDto(task));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
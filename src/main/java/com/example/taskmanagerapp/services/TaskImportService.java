@@ -0,0 +1,142 @@
+package com.example.taskmanagerapp.services;
+
+import com.example.taskmanagerapp.dto.BatchItemResultDTO;
+import com.example.taskmanagerapp.dto.ImportReportDTO;
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.example.taskmanagerapp.search.TaskSearchIndex;
+import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import com.example.taskmanagerapp.validation.TaskValidator;
+import com.example.taskmanagerapp.validation.ValidationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads records one at a time from the request body and flushes valid ones in chunks, so memory stays bounded by the chunk size
+@Service
+public class TaskImportService {
+    private static final CsvMapper CSV_MAPPER = (CsvMapper) new CsvMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${task.batch.chunk-size:500}")
+    int chunkSize;
+
+    @Value("${task.import.max-reported-errors:100}")
+    int maxReportedErrors;
+
+    // A chunk size below 1 never fills a chunk, so the whole import would be buffered before the first flush
+    @PostConstruct
+    void checkChunkSize() {
+        if (chunkSize < 1) {
+            throw new IllegalStateException("task.batch.chunk-size must be at least 1, was " + chunkSize);
+        }
+    }
+
+    public ImportReportDTO importNdjson(InputStream in) throws IOException {
+        try (MappingIterator<TaskRequestDTO> records = objectMapper.readerFor(TaskRequestDTO.class).readValues(in)) {
+            return importRecords(records);
+        }
+    }
+
+    // CSV needs a header row naming the columns: title, description, status, due_date
+    public ImportReportDTO importCsv(InputStream in) throws IOException {
+        try (MappingIterator<TaskRequestDTO> records = CSV_MAPPER.readerFor(TaskRequestDTO.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(in)) {
+            return importRecords(records);
+        }
+    }
+
+    private ImportReportDTO importRecords(MappingIterator<TaskRequestDTO> records) throws IOException {
+        long startNanos = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        List<TaskModel> chunk = new ArrayList<>(chunkSize);
+        boolean completed = true;
+        int index = 0;
+        while (true) {
+            TaskRequestDTO dto;
+            try {
+                if (!records.hasNextValue()) {
+                    break;
+                }
+                dto = records.nextValue();
+            } catch (JsonProcessingException e) {
+                // The reader can't reliably resync after malformed input, so stop and report what was stored
+                progress.fail(index++, "MALFORMED_RECORD", "Import stopped at malformed record: " + e.getOriginalMessage());
+                completed = false;
+                break;
+            }
+            ValidationResult<TaskModel> validation = TaskValidator.validateNewTask(dto);
+            if (validation.isValid()) {
+                TaskModel task = validation.getValue();
+                task.setId(IdGeneratorUtil.generateId());
+                chunk.add(task);
+            } else {
+                progress.fail(index, validation.getCode(), validation.getMessage());
+            }
+            index++;
+            if (chunk.size() == chunkSize) {
+                flush(chunk, progress);
+            }
+        }
+        flush(chunk, progress);
+
+        long durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new ImportReportDTO(index, progress.created, progress.failed, completed, progress.errors, durationMillis);
+    }
+
+    private void flush(List<TaskModel> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            progress.created += taskRepository.saveTasks(chunk);
+            taskSearchIndex.indexAll(chunk);
+        } catch (DataAccessException e) {
+            progress.failed += chunk.size();
+            progress.addError(BatchItemResultDTO.failed(-1, "INSERT_FAILED", chunk.size() + " tasks could not be stored"));
+        }
+        chunk.clear();
+    }
+
+    private class ImportProgress {
+        long created;
+        long failed;
+        List<BatchItemResultDTO> errors = new ArrayList<>();
+
+        void fail(int index, String code, String message) {
+            failed++;
+            addError(BatchItemResultDTO.failed(index, code, message));
+        }
+
+        // Only the first errors are kept so a bad file can't grow the report without bound
+        void addError(BatchItemResultDTO error) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.taskmanagerapp.services;
+
+import com.example.taskmanagerapp.dto.IngestStatusDTO;
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.enums.IngestState;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.exceptions.IngestQueueFullException;
+import com.example.taskmanagerapp.exceptions.TaskNotFoundException;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.example.taskmanagerapp.search.TaskSearchIndex;
+import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import com.example.taskmanagerapp.validation.TaskValidator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Write-behind for POST /api/v1/tasks when task.ingest.async is true: a task is validated, given its id and queued,
+// and the request returns 202 at once. One writer thread drains the queue into batched inserts, so the busier it
+// gets the more tasks share a transaction. Until its row exists a task is read from the pending map
+@Service
+public class TaskIngestService implements MeterBinder {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TaskSearchIndex taskSearchIndex;
+
+    @Value("${task.ingest.async:false}")
+    boolean async;
+
+    @Value("${task.ingest.queue-capacity:10000}")
+    int queueCapacity;
+
+    @Value("${task.ingest.batch-size:500}")
+    int batchSize;
+
+    @Value("${task.ingest.shutdown-timeout-ms:30000}")
+    long shutdownTimeoutMillis;
+
+    // The queue itself is unbounded and lock-free; the bound is a slot reserved on depth before offering.
+    // depth counts tasks until they are stored, so it also covers the batch being written
+    private final ConcurrentLinkedQueue<Queued> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final ConcurrentHashMap<String, TaskModel> pending = new ConcurrentHashMap<>();
+    // Ids whose insert failed, for the status URL; bounded so a long outage can't grow it forever
+    private final Cache<String, Boolean> failed = Caffeine.newBuilder().maximumSize(10_000).build();
+    private volatile boolean accepting;
+    // Set when shutdown gave up waiting; the writer then stops after the batch it is in
+    private volatile boolean abandoned;
+    private volatile Thread writer;
+    // Enqueue time of the oldest task in the batch being written, 0 between batches
+    private volatile long writingSince;
+    private Counter storedCounter;
+    private Counter failedCounter;
+
+    private static final class Queued {
+        final TaskModel task;
+        final long enqueuedAt;
+
+        Queued(TaskModel task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            return;
+        }
+        accepting = true;
+        Thread thread = new Thread(this::drain, "task-ingest-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    // Stops taking tasks and waits for everything accepted to be written. Beans are destroyed in reverse dependency
+    // order, so the repository is still open here
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        accepting = false;
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(shutdownTimeoutMillis);
+            if (thread.isAlive()) {
+                abandon();
+            }
+        }
+    }
+
+    // The writer didn't finish within task.ingest.shutdown-timeout-ms and dies with the JVM. Every task it still
+    // holds was answered with 202, so each is marked failed and counted instead of vanishing without a trace.
+    // That includes the batch being inserted right now, which may still land
+    private void abandon() {
+        abandoned = true;
+        for (String id : pending.keySet()) {
+            markFailed(id);
+        }
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public IngestStatusDTO enqueue(TaskRequestDTO dto) {
+        TaskModel task = TaskService.validOrThrow(TaskValidator.validateNewTask(dto));
+        // Reserve first, then check: once the writer sees accepting off and depth at 0 nothing can still slip in
+        if (depth.incrementAndGet() > queueCapacity || !accepting) {
+            depth.decrementAndGet();
+            throw new IngestQueueFullException(accepting ? "Ingest queue is full, try again later" : "Task ingestion is shutting down");
+        }
+        task.setId(IdGeneratorUtil.generateId());
+        // What a read shows until the row exists: the defaults the insert applies
+        if (task.getStatus() == null) {
+            task.setStatus(TaskStatus.PENDING);
+        }
+        task.setVersion(1);
+        pending.put(task.getId(), task);
+        queue.offer(new Queued(task, System.nanoTime()));
+        LockSupport.unpark(writer);
+        return new IngestStatusDTO(task.getId(), IngestState.QUEUED);
+    }
+
+    // A queued task, or null once it is stored, failed or was never queued. Shared with the writer, so read only
+    public TaskModel getPending(String id) {
+        return pending.get(id);
+    }
+
+    // Pending is checked before the store: the writer removes a task from it only after the insert, so a task
+    // is always found in one of the two
+    public IngestStatusDTO status(String id) {
+        IngestState state;
+        if (pending.containsKey(id)) {
+            state = IngestState.QUEUED;
+        } else if (failed.getIfPresent(id) != null) {
+            state = IngestState.FAILED;
+        } else if (taskRepository.selectTask(id) != null) {
+            state = IngestState.STORED;
+        } else {
+            throw new TaskNotFoundException("Task not found with id: " + id);
+        }
+        return new IngestStatusDTO(id, state);
+    }
+
+    public int depth() {
+        return depth.get();
+    }
+
+    public double lagSeconds() {
+        long since = writingSince;
+        if (since == 0) {
+            Queued head = queue.peek();
+            if (head == null) {
+                return 0;
+            }
+            since = head.enqueuedAt;
+        }
+        return (System.nanoTime() - since) / 1e9;
+    }
+
+    private void drain() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        while ((accepting || depth.get() > 0) && !abandoned) {
+            Queued next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                // Woken by every enqueue; the timeout only covers a reservation whose offer is still on its way
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            writingSince = batch.get(0).enqueuedAt;
+            write(batch);
+            writingSince = 0;
+            depth.addAndGet(-batch.size());
+            batch.clear();
+        }
+    }
+
+    private void write(List<Queued> batch) {
+        List<TaskModel> tasks = new ArrayList<>(batch.size());
+        for (Queued queued : batch) {
+            tasks.add(queued.task);
+        }
+        try {
+            taskRepository.saveTasks(tasks);
+            stored(tasks);
+        } catch (RuntimeException e) {
+            // One bad task rolls back the whole batch, so the rest are retried one at a time
+            for (TaskModel task : tasks) {
+                try {
+                    taskRepository.saveTasks(List.of(task));
+                    stored(List.of(task));
+                } catch (RuntimeException taskFailure) {
+                    markFailed(task.getId());
+                }
+            }
+        }
+    }
+
+    // Both count only tasks they take out of pending, so a task abandoned at shutdown is never counted twice
+    private void stored(List<TaskModel> tasks) {
+        taskSearchIndex.indexAll(tasks);
+        int count = 0;
+        for (TaskModel task : tasks) {
+            if (pending.remove(task.getId()) != null) {
+                count++;
+            }
+        }
+        if (storedCounter != null) {
+            storedCounter.increment(count);
+        }
+    }
+
+    private void markFailed(String id) {
+        failed.put(id, Boolean.TRUE);
+        if (pending.remove(id) != null && failedCounter != null) {
+            failedCounter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        storedCounter = Counter.builder("task.ingest.stored")
+                .description("Queued tasks written by the ingest writer")
+                .register(registry);
+        failedCounter = Counter.builder("task.ingest.failed")
+                .description("Queued tasks whose insert failed, or that were still queued when shutdown timed out")
+                .register(registry);
+        Gauge.builder("task.ingest.queue.depth", this, TaskIngestService::depth)
+                .description("Tasks accepted with 202 and not stored yet")
+                .register(registry);
+        Gauge.builder("task.ingest.lag.seconds", this, TaskIngestService::lagSeconds)
+                .description("Age of the oldest task not stored yet")
+                .register(registry);
+    }
+}
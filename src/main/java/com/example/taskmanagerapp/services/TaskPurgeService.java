@@ -0,0 +1,113 @@
+package com.example.taskmanagerapp.services;
+
+import com.example.taskmanagerapp.dto.PurgeStatsDTO;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Removes tasks soft-deleted longer than task.purge.retention ago. Each batch is its own short statement and
+// transaction, with a pause in between, so the purge never holds locks for long or crowds out request traffic
+@Service
+public class TaskPurgeService implements MeterBinder {
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Value("${task.purge.retention:7d}")
+    Duration retention;
+
+    @Value("${task.purge.batch-size:500}")
+    int batchSize;
+
+    @Value("${task.purge.batch-pause-ms:50}")
+    long batchPauseMillis;
+
+    @Value("${task.purge.max-rows-per-run:100000}")
+    long maxRowsPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Instant lastStartedAt;
+    private volatile Instant lastFinishedAt;
+    private volatile long lastRunPurged;
+    private volatile long currentRunPurged;
+    private volatile long totalPurged;
+    private Counter purgedCounter;
+
+    // Only registered when task.purge.enabled is true, see SchedulingConfig
+    @Scheduled(initialDelayString = "${task.purge.initial-delay-ms:60000}", fixedDelayString = "${task.purge.interval-ms:600000}")
+    public void scheduledPurge() {
+        purge();
+    }
+
+    // Purges in batches until nothing older than the retention is left or the per-run cap is reached.
+    // A run that overlaps one already in progress does nothing
+    public PurgeStatsDTO purge() {
+        if (!running.compareAndSet(false, true)) {
+            return stats();
+        }
+        try {
+            lastStartedAt = Instant.now();
+            currentRunPurged = 0;
+            LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+            while (currentRunPurged < maxRowsPerRun) {
+                int limit = (int) Math.min(batchSize, maxRowsPerRun - currentRunPurged);
+                int purged = taskRepository.purgeDeletedTasks(deletedBefore, limit);
+                currentRunPurged += purged;
+                totalPurged += purged;
+                if (purgedCounter != null) {
+                    purgedCounter.increment(purged);
+                }
+                if (purged < limit || !pause()) {
+                    break;
+                }
+            }
+            lastRunPurged = currentRunPurged;
+            lastFinishedAt = Instant.now();
+        } finally {
+            running.set(false);
+        }
+        return stats();
+    }
+
+    public PurgeStatsDTO stats() {
+        return new PurgeStatsDTO(running.get(), lastStartedAt, lastFinishedAt,
+                running.get() ? currentRunPurged : lastRunPurged, totalPurged);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        purgedCounter = Counter.builder("task.purge.rows")
+                .description("Soft-deleted tasks removed for good by the purge job")
+                .register(registry);
+        Gauge.builder("task.purge.running", running, flag -> flag.get() ? 1 : 0)
+                .description("1 while a purge run is in progress")
+                .register(registry);
+        Gauge.builder("task.purge.current.run.rows", this, service -> service.currentRunPurged)
+                .description("Tasks purged so far by the current or last run")
+                .register(registry);
+    }
+
+    // false when interrupted, which ends the run early; the next run picks up where this one stopped
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,123 +1,504 @@
 package com.example.taskmanagerapp.services;
 
+import com.example.taskmanagerapp.cache.RenderedTask;
+import com.example.taskmanagerapp.cache.TaskCache;
+import com.example.taskmanagerapp.dto.BatchItemResultDTO;
+import com.example.taskmanagerapp.dto.BatchTaskResponseDTO;
+import com.example.taskmanagerapp.dto.BulkOperationResponseDTO;
+import com.example.taskmanagerapp.dto.BulkTaskRequestDTO;
+import com.example.taskmanagerapp.dto.CacheStatsDTO;
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
+import com.example.taskmanagerapp.dto.SearchTaskResponseDTO;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.exceptions.InvalidBatchException;
 import com.example.taskmanagerapp.exceptions.InvalidPageOrSizeException;
+import com.example.taskmanagerapp.exceptions.InvalidQueryException;
+import com.example.taskmanagerapp.dto.TaskPatchRequestDTO;
 import com.example.taskmanagerapp.dto.TaskRequestDTO;
 import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
 import com.example.taskmanagerapp.dto.TaskResponseDTO;
 import com.example.taskmanagerapp.exceptions.InvalidDateException;
 import com.example.taskmanagerapp.exceptions.InvalidStatusException;
 import com.example.taskmanagerapp.exceptions.InvalidTitleException;
+import com.example.taskmanagerapp.exceptions.PreconditionFailedException;
+import com.example.taskmanagerapp.exceptions.TaskException;
 import com.example.taskmanagerapp.exceptions.TaskNotFoundException;
 import com.example.taskmanagerapp.mapper.TaskDtoMapper;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
 import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
 import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.example.taskmanagerapp.search.SearchHit;
+import com.example.taskmanagerapp.search.SearchResult;
+import com.example.taskmanagerapp.search.TaskSearchIndex;
+import com.example.taskmanagerapp.util.CursorUtils;
+import com.example.taskmanagerapp.util.ETagUtils;
 import com.example.taskmanagerapp.util.IdGeneratorUtil;
 import com.example.taskmanagerapp.util.TaskUtils;
+import com.example.taskmanagerapp.validation.TaskValidator;
+import com.example.taskmanagerapp.validation.ValidationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TaskService {
     @Autowired
     TaskRepository taskRepository;
 
-    public TaskResponseDTO saveTask(TaskRequestDTO dto) {
-        if(dto.getTitle() == null || dto.getTitle().isEmpty()) {
-            throw new InvalidTitleException("Title is required");
-        }
-        if(dto.getDueDate() == null || dto.getDueDate().isEmpty()) {
-            throw new InvalidDateException("Due date is required");
-        }
-        // Convert DTO to TaskModel
-        TaskModel task = TaskDtoMapper.toEntity(dto);
-        // Validate if date is in future
-        if (task.getDueDate().isBefore(LocalDate.now())) {
-            throw new InvalidDateException("Invalid date, date should be of future");
+    @Autowired
+    TaskCache taskCache;
+
+    @Autowired
+    TaskMetrics taskMetrics;
+
+    @Autowired
+    TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TaskIngestService taskIngestService;
+
+    @Value("${task.pagination.skip-count:false}")
+    boolean skipCount;
+
+    @Value("${task.batch.chunk-size:500}")
+    int batchChunkSize;
+
+    @Value("${task.batch.max-size:10000}")
+    int batchMaxSize;
+
+    @Value("${task.search.max-limit:100}")
+    int searchMaxLimit;
+
+    // saveTasks steps through the batch by the chunk size, so anything below 1 would never advance
+    @PostConstruct
+    void checkBatchChunkSize() {
+        if (batchChunkSize < 1) {
+            throw new IllegalStateException("task.batch.chunk-size must be at least 1, was " + batchChunkSize);
         }
+    }
+
+    public TaskResponseDTO saveTask(TaskRequestDTO dto) {
+        return taskMetrics.timeService("save", () -> doSaveTask(dto));
+    }
+
+    private TaskResponseDTO doSaveTask(TaskRequestDTO dto) {
+        TaskModel task = validateNewTask(dto);
 
         task.setId(IdGeneratorUtil.generateId());
-        taskRepository.saveTask(
+        TaskModel savedTask = taskRepository.saveTask(
             task.getId(),
             task.getTitle(),
             task.getDescription(),
             task.getStatus() != null ? task.getStatus().name() : null,
             task.getDueDate()
         );
-        TaskModel savedTask = taskRepository.selectTask(task.getId());
+        taskSearchIndex.index(savedTask);
         return  TaskDtoMapper.toResponseDto(savedTask);
     }
 
+    // Validates each item with the saveTask rules; valid items are inserted in chunks even when others fail
+    public BatchTaskResponseDTO saveTasks(List<TaskRequestDTO> dtos) {
+        return taskMetrics.timeService("save_batch", () -> doSaveTasks(dtos));
+    }
+
+    private BatchTaskResponseDTO doSaveTasks(List<TaskRequestDTO> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > batchMaxSize) {
+            throw new InvalidBatchException("Batch must contain between 1 and " + batchMaxSize + " tasks");
+        }
+        List<BatchItemResultDTO> results = new ArrayList<>(dtos.size());
+        List<TaskModel> validTasks = new ArrayList<>();
+        List<BatchItemResultDTO> validResults = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            ValidationResult<TaskModel> validation = TaskValidator.validateNewTask(dtos.get(i));
+            if (!validation.isValid()) {
+                results.add(BatchItemResultDTO.failed(i, validation.getCode(), validation.getMessage()));
+                continue;
+            }
+            TaskModel task = validation.getValue();
+            task.setId(IdGeneratorUtil.generateId());
+            validTasks.add(task);
+            BatchItemResultDTO result = BatchItemResultDTO.created(i, task.getId());
+            validResults.add(result);
+            results.add(result);
+        }
+
+        for (int from = 0; from < validTasks.size(); from += batchChunkSize) {
+            int to = Math.min(from + batchChunkSize, validTasks.size());
+            try {
+                taskRepository.saveTasks(validTasks.subList(from, to));
+                taskSearchIndex.indexAll(validTasks.subList(from, to));
+            } catch (DataAccessException e) {
+                // The chunk's transaction rolled back, so none of its items were stored
+                for (BatchItemResultDTO result : validResults.subList(from, to)) {
+                    result.markFailed("INSERT_FAILED", "Task could not be stored");
+                }
+            }
+        }
+
+        int created = 0;
+        for (BatchItemResultDTO result : results) {
+            if (result.getId() != null) {
+                created++;
+            }
+        }
+        return new BatchTaskResponseDTO(created, results.size() - created, results);
+    }
+
+    TaskModel validateNewTask(TaskRequestDTO dto) {
+        return validOrThrow(TaskValidator.validateNewTask(dto));
+    }
+
+    // Single-task endpoints still answer with an error response, so an invalid result becomes the matching exception here
+    static <T> T validOrThrow(ValidationResult<T> validation) {
+        if (validation.isValid()) {
+            return validation.getValue();
+        }
+        switch (validation.getCode()) {
+            case TaskValidator.INVALID_TITLE -> throw new InvalidTitleException(validation.getMessage());
+            case TaskValidator.INVALID_STATUS -> throw new InvalidStatusException(validation.getMessage());
+            default -> throw new InvalidDateException(validation.getMessage());
+        }
+    }
+
     public TaskResponseDTO getTaskById(String id) {
-        TaskModel task = taskRepository.selectTask(id);
+        return getTaskById(id, TaskFields.ALL);
+    }
+
+    public TaskResponseDTO getTaskById(String id, TaskFields fields) {
+        return taskMetrics.timeService("get", () -> doGetTaskById(id, fields));
+    }
+
+    private TaskResponseDTO doGetTaskById(String id, TaskFields fields) {
+        // A task accepted by async ingestion and not written yet
+        TaskModel task = taskIngestService.getPending(id);
+        if (task != null) {
+            return TaskDtoMapper.toResponseDto(task);
+        }
+        if (fields.isAll()) {
+            task = taskCache.get(id, taskRepository::selectTask);
+        } else {
+            // A cached task already has every field; a projected read is never cached since it may lack some
+            task = taskCache.getIfPresent(id);
+            if (task == null) {
+                task = taskRepository.selectTask(id, fields);
+            }
+        }
         if(task == null) {
             throw new TaskNotFoundException("Task not found with id: " + id);
         }
         return TaskDtoMapper.toResponseDto(task);
     }
 
-    public TaskResponseDTO updateTask(String id, TaskRequestDTO dto) {
-        if (dto.getTitle() == null || dto.getTitle().trim().isEmpty()) {
-            throw new InvalidTitleException("Title is required");
-        }
-        if (dto.getDueDate() == null || dto.getDueDate().isEmpty()) {
-            throw new InvalidDateException("Due date is required");
-        }
-        if(dto.getStatus() == null || dto.getStatus().isEmpty()) {
-            throw new InvalidStatusException("Status is required");
+    // The full JSON body of a task, rendered once per version and then served as bytes
+    public RenderedTask getRenderedTask(String id) {
+        RenderedTask rendered = taskMetrics.timeService("get", () -> {
+            // Rendered for this read only; the cached body is built once the task is stored
+            TaskModel queued = taskIngestService.getPending(id);
+            return queued != null ? render(queued) : taskCache.getRendered(id, this::render);
+        });
+        if (rendered == null) {
+            throw new TaskNotFoundException("Task not found with id: " + id);
         }
+        return rendered;
+    }
 
-        if( !TaskUtils.isValidTaskStatus(dto.getStatus())) {
-            throw new InvalidStatusException("Valid statuses are: PENDING, IN_PROGRESS, DONE");
+    private RenderedTask render(String id) {
+        TaskModel task = taskCache.get(id, taskRepository::selectTask);
+        return task != null ? render(task) : null;
+    }
+
+    private RenderedTask render(TaskModel task) {
+        try {
+            return new RenderedTask(task.getVersion(), objectMapper.writeValueAsBytes(TaskDtoMapper.toResponseDto(task)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render task " + task.getId(), e);
         }
+    }
 
-        TaskModel updatedTask = TaskDtoMapper.toEntity(dto);
+    public TaskResponseDTO updateTask(String id, TaskRequestDTO dto) {
+        return updateTask(id, dto, null);
+    }
 
-        // Validate if date is in future
-        if (updatedTask.getDueDate().isBefore(LocalDate.now())) {
-            throw new InvalidDateException("Invalid date, date should be of future");
+    // With an expected version (from If-Match) the update only applies while the task is still at that version
+    public TaskResponseDTO updateTask(String id, TaskRequestDTO dto, Long expectedVersion) {
+        return taskMetrics.timeService("update", () -> doUpdateTask(id, dto, expectedVersion));
+    }
+
+    private TaskResponseDTO doUpdateTask(String id, TaskRequestDTO dto, Long expectedVersion) {
+        TaskModel updatedTask = validOrThrow(TaskValidator.validateTaskUpdate(dto));
+
+        String status = updatedTask.getStatus() != null ? updatedTask.getStatus().name() : null;
+        TaskModel savedTask = expectedVersion == null
+                ? taskRepository.updateTask(id, updatedTask.getTitle(), updatedTask.getDescription(), status, updatedTask.getDueDate())
+                : taskRepository.updateTaskIfVersion(id, updatedTask.getTitle(), updatedTask.getDescription(), status,
+                        updatedTask.getDueDate(), expectedVersion);
+
+        if (savedTask == null) {
+            throw notUpdated(id, expectedVersion);
         }
+        taskCache.invalidate(id);
+        taskSearchIndex.index(savedTask);
+        return TaskDtoMapper.toResponseDto(savedTask);
+    }
 
-        boolean isUpdated = taskRepository.updateTask(
-            id,
-            updatedTask.getTitle(),
-            updatedTask.getDescription(),
-            updatedTask.getStatus() != null ? updatedTask.getStatus().name() : null,
-            updatedTask.getDueDate()
-        );
+    public TaskResponseDTO patchTask(String id, TaskPatchRequestDTO dto, Long expectedVersion) {
+        return taskMetrics.timeService("patch", () -> doPatchTask(id, dto, expectedVersion));
+    }
 
-        if (!isUpdated) {
-            throw new TaskNotFoundException("Task not found with id: " + id);
+    private TaskResponseDTO doPatchTask(String id, TaskPatchRequestDTO dto, Long expectedVersion) {
+        TaskPatch patch = validOrThrow(TaskValidator.validateTaskPatch(dto));
+
+        // An empty merge patch changes nothing, so it is answered like a read and leaves the version alone
+        if (patch.isEmpty()) {
+            TaskModel current = taskRepository.selectTask(id);
+            if (current == null) {
+                throw new TaskNotFoundException("Task not found with id: " + id);
+            }
+            if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                throw new PreconditionFailedException("Task " + id + " is no longer at version " + expectedVersion);
+            }
+            return TaskDtoMapper.toResponseDto(current);
         }
 
-        TaskModel savedTask = taskRepository.selectTask(id);
+        TaskModel savedTask = taskRepository.patchTask(id, patch, expectedVersion);
+        if (savedTask == null) {
+            throw notUpdated(id, expectedVersion);
+        }
+        taskCache.invalidate(id);
+        // Only title and description are indexed, so a status or due date change leaves the index alone
+        if (patch.has(TaskPatch.TITLE) || patch.has(TaskPatch.DESCRIPTION)) {
+            taskSearchIndex.index(savedTask);
+        }
         return TaskDtoMapper.toResponseDto(savedTask);
     }
 
     public boolean deleteTaskById(String id) {
-        boolean result =  taskRepository.deleteTask(id);
+        return deleteTaskById(id, null);
+    }
+
+    public boolean deleteTaskById(String id, Long expectedVersion) {
+        return taskMetrics.timeService("delete", () -> doDeleteTaskById(id, expectedVersion));
+    }
+
+    private boolean doDeleteTaskById(String id, Long expectedVersion) {
+        boolean result = expectedVersion == null ? taskRepository.deleteTask(id) : taskRepository.deleteTaskIfVersion(id, expectedVersion);
         if(!result) {
-            throw new TaskNotFoundException("Task not found with id: " + id);
+            throw notUpdated(id, expectedVersion);
         }
+        taskCache.invalidate(id);
+        taskSearchIndex.remove(id);
         return result;
     }
 
+    // A conditional write that changed nothing either lost the race to another write or found no task;
+    // only the failure path pays for the lookup that tells the two apart
+    private TaskException notUpdated(String id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.selectTask(id) != null) {
+            return new PreconditionFailedException("Task " + id + " is no longer at version " + expectedVersion);
+        }
+        return new TaskNotFoundException("Task not found with id: " + id);
+    }
+
+    public BulkOperationResponseDTO updateTasksStatus(BulkTaskRequestDTO dto) {
+        return taskMetrics.timeService("bulk_status", () -> doUpdateTasksStatus(dto));
+    }
+
+    private BulkOperationResponseDTO doUpdateTasksStatus(BulkTaskRequestDTO dto) {
+        validateBulkIds(dto);
+        if(dto.getStatus() == null || dto.getStatus().isEmpty()) {
+            throw new InvalidStatusException("Status is required");
+        }
+        TaskStatus status = TaskUtils.parseStatus(dto.getStatus());
+        if(status == null) {
+            throw new InvalidStatusException("Valid statuses are: PENDING, IN_PROGRESS, DONE");
+        }
+        int affected = taskRepository.updateTasksStatus(dto.getIds(), status.name());
+        taskCache.invalidateAll(dto.getIds());
+        return new BulkOperationResponseDTO(affected);
+    }
+
+    public BulkOperationResponseDTO deleteTasks(BulkTaskRequestDTO dto) {
+        return taskMetrics.timeService("bulk_delete", () -> doDeleteTasks(dto));
+    }
+
+    private BulkOperationResponseDTO doDeleteTasks(BulkTaskRequestDTO dto) {
+        validateBulkIds(dto);
+        int affected = taskRepository.deleteTasks(dto.getIds());
+        taskCache.invalidateAll(dto.getIds());
+        taskSearchIndex.removeAll(dto.getIds());
+        return new BulkOperationResponseDTO(affected);
+    }
+
+    public BulkOperationResponseDTO deleteDoneTasksDueBefore(String dueBefore) {
+        return taskMetrics.timeService("delete_done", () -> doDeleteDoneTasksDueBefore(dueBefore));
+    }
+
+    private BulkOperationResponseDTO doDeleteDoneTasksDueBefore(String dueBefore) {
+        if(dueBefore == null || dueBefore.isEmpty()) {
+            throw new InvalidDateException("Due date is required");
+        }
+        LocalDate dueDate = TaskUtils.parseIsoDate(dueBefore);
+        if (dueDate == null) {
+            throw new InvalidDateException("Invalid date format, expected yyyy-MM-dd");
+        }
+        int affected = taskRepository.deleteDoneTasksDueBefore(dueDate);
+        // The deleted ids aren't known here, so drop every cached task.
+        // The search index keeps them until a search runs into them, see doSearchTasks
+        if (affected > 0) {
+            taskCache.invalidateAll();
+        }
+        return new BulkOperationResponseDTO(affected);
+    }
+
+    private void validateBulkIds(BulkTaskRequestDTO dto) {
+        if (dto == null || dto.getIds() == null || dto.getIds().isEmpty() || dto.getIds().size() > batchMaxSize) {
+            throw new InvalidBatchException("Ids must contain between 1 and " + batchMaxSize + " task ids");
+        }
+    }
+
     public PaginatedTaskResponseDTO getAllTasks(int page, int size) {
+        return getAllTasks(page, size, new TaskFilter());
+    }
+
+    public PaginatedTaskResponseDTO getAllTasks(int page, int size, TaskFilter filter) {
+        return getAllTasks(page, size, filter, TaskFields.ALL);
+    }
+
+    public PaginatedTaskResponseDTO getAllTasks(int page, int size, TaskFilter filter, TaskFields fields) {
+        return taskMetrics.timeService("list", () -> doGetAllTasks(page, size, filter, fields));
+    }
+
+    private PaginatedTaskResponseDTO doGetAllTasks(int page, int size, TaskFilter filter, TaskFields fields) {
         if(page < 0 || size <= 0) {
             throw new InvalidPageOrSizeException("Page must be >= 0 and size must be > 0");
         }
         int offset = page * size;
-        List<TaskModel> tasks = taskRepository.selectAllTasksPaginated(size, offset);
+        // Unfiltered listing keeps its fixed statements and the live counter; filters need their own query and count
+        boolean filtered = !filter.isEmpty();
+        // A fieldset also needs the per-call query; with an empty filter it lists the same rows as the fixed statement
+        boolean projected = filtered || !fields.isAll();
+        List<TaskModel> tasks;
+        long totalCount;
+        boolean hasMore;
+        if (skipCount) {
+            // Fetch one extra row for hasMore; total is only a lower bound of what has been seen so far
+            tasks = projected ? taskRepository.selectTasksPaginated(filter, fields, size + 1, offset)
+                    : taskRepository.selectAllTasksPaginated(size + 1, offset);
+            hasMore = tasks.size() > size;
+            if (hasMore) {
+                tasks = tasks.subList(0, size);
+            }
+            totalCount = offset + tasks.size() + (hasMore ? 1 : 0);
+        } else {
+            tasks = projected ? taskRepository.selectTasksPaginated(filter, fields, size, offset)
+                    : taskRepository.selectAllTasksPaginated(size, offset);
+            totalCount = filtered ? taskRepository.countTasks(filter) : taskRepository.countAllTasks();
+            hasMore = (offset + size) < totalCount;
+        }
         List<TaskResponseDTO> taskDTOs = new ArrayList<>();
         for(TaskModel task : tasks){
             taskDTOs.add(TaskDtoMapper.toResponseDto(task));
         }
-        long totalCount = taskRepository.countAllTasks();
-        boolean hasMore = (offset + size) < totalCount;
         return new PaginatedTaskResponseDTO(taskDTOs, hasMore, totalCount, page, size);
     }
 
+    public CursorTaskResponseDTO getTasksAfterCursor(String cursor, int size) {
+        return getTasksAfterCursor(cursor, size, new TaskFilter());
+    }
+
+    // The cursor only carries the (dueDate, id) position, so clients must send the same filters with every page
+    public CursorTaskResponseDTO getTasksAfterCursor(String cursor, int size, TaskFilter filter) {
+        return getTasksAfterCursor(cursor, size, filter, TaskFields.ALL);
+    }
+
+    public CursorTaskResponseDTO getTasksAfterCursor(String cursor, int size, TaskFilter filter, TaskFields fields) {
+        return taskMetrics.timeService("list_cursor", () -> doGetTasksAfterCursor(cursor, size, filter, fields));
+    }
+
+    private CursorTaskResponseDTO doGetTasksAfterCursor(String cursor, int size, TaskFilter filter, TaskFields fields) {
+        if(size <= 0) {
+            throw new InvalidPageOrSizeException("Size must be > 0");
+        }
+        TaskModel lastSeen = cursor != null && !cursor.isEmpty() ? CursorUtils.decode(cursor) : new TaskModel();
+        // Fetch one extra row to know if there is a next page without counting
+        List<TaskModel> tasks = filter.isEmpty() && fields.isAll()
+                ? taskRepository.selectTasksAfter(lastSeen.getDueDate(), lastSeen.getId(), size + 1)
+                : taskRepository.selectTasksAfter(filter, fields, lastSeen.getDueDate(), lastSeen.getId(), size + 1);
+        boolean hasMore = tasks.size() > size;
+        if (hasMore) {
+            tasks = tasks.subList(0, size);
+        }
+        List<TaskResponseDTO> taskDTOs = new ArrayList<>();
+        for(TaskModel task : tasks){
+            taskDTOs.add(TaskDtoMapper.toResponseDto(task));
+        }
+        String nextCursor = hasMore ? CursorUtils.encode(tasks.get(tasks.size() - 1)) : null;
+        return new CursorTaskResponseDTO(taskDTOs, hasMore, nextCursor, size);
+    }
+
+    public SearchTaskResponseDTO searchTasks(String query, int limit) {
+        return taskMetrics.timeService("search", () -> doSearchTasks(query, limit));
+    }
+
+    private SearchTaskResponseDTO doSearchTasks(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidQueryException("Query is required");
+        }
+        if (limit <= 0 || limit > searchMaxLimit) {
+            throw new InvalidPageOrSizeException("Limit must be between 1 and " + searchMaxLimit);
+        }
+        // The index can still hold tasks removed behind its back (delete by due date, rolled back writes).
+        // Hits without a live row are dropped from the index and the search rerun, at most a few times
+        for (int attempt = 0; ; attempt++) {
+            SearchResult result = taskSearchIndex.search(query, limit);
+            List<String> ids = new ArrayList<>(result.getHits().size());
+            for (SearchHit hit : result.getHits()) {
+                ids.add(hit.getTaskId());
+            }
+            Map<String, TaskModel> tasksById = new HashMap<>();
+            for (TaskModel task : taskRepository.selectTasks(ids)) {
+                tasksById.put(task.getId(), task);
+            }
+            List<TaskResponseDTO> taskDTOs = new ArrayList<>(ids.size());
+            List<String> stale = new ArrayList<>();
+            for (String id : ids) {
+                TaskModel task = tasksById.get(id);
+                if (task != null) {
+                    taskDTOs.add(TaskDtoMapper.toResponseDto(task));
+                } else {
+                    stale.add(id);
+                }
+            }
+            if (stale.isEmpty() || attempt == 2) {
+                return new SearchTaskResponseDTO(taskDTOs, result.getTotalHits() - stale.size(), query);
+            }
+            taskSearchIndex.removeAll(stale);
+        }
+    }
+
+    // Read before a listing runs, it is a valid ETag for whatever the listing returns
+    public String getListETag() {
+        return ETagUtils.listETag(taskRepository.storeEpoch(), taskRepository.changeCount());
+    }
+
+    public CacheStatsDTO getCacheStats() {
+        return taskCache.stats();
+    }
+
 }
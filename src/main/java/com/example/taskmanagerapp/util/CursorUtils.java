@@ -0,0 +1,39 @@
+package com.example.taskmanagerapp.util;
+
+import com.example.taskmanagerapp.exceptions.InvalidCursorException;
+import com.example.taskmanagerapp.models.TaskModel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Cursor is the (due_date, id) of the last task on a page, base64url encoded so clients treat it as opaque
+public class CursorUtils {
+    private static final char SEPARATOR = '|';
+
+    public static String encode(TaskModel lastTask) {
+        String raw = lastTask.getDueDate().toString() + SEPARATOR + lastTask.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns a task holding only the dueDate and id the cursor points at
+    public static TaskModel decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            LocalDate dueDate = TaskUtils.parseIsoDate(raw.substring(0, separator));
+            if (dueDate == null) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            TaskModel lastTask = new TaskModel();
+            lastTask.setDueDate(dueDate);
+            lastTask.setId(raw.substring(separator + 1));
+            return lastTask;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagerapp.util;
+
+import com.example.taskmanagerapp.exceptions.PreconditionFailedException;
+
+// Strong ETags: a task's is its version, a listing's is the store's epoch and change count. Versions only ever go up,
+// and a change count only repeats within one store epoch for the same content, so a tag can't come back for different content
+public class ETagUtils {
+
+    private static final String BINARY_SUFFIX = "-bin";
+
+    public static String taskETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Prefixed so a list tag never matches a task tag that a client sends to the wrong URL
+    public static String listETag(long storeEpoch, long changeCount) {
+        return "\"list-" + Long.toHexString(storeEpoch) + "-" + changeCount + "\"";
+    }
+
+    // The binary encoding is served from the same URLs as JSON, so it gets its own tag: a cache holding one
+    // encoding can't revalidate a request for the other
+    public static String binaryETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + BINARY_SUFFIX + "\"";
+    }
+
+    // The version an If-Match header asks for, or null when there is no header or it is "*" (any current version).
+    // Only a single strong task ETag can match; anything else fails the precondition
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new PreconditionFailedException("If-Match must be a single task ETag, e.g. \"3\"");
+        }
+        // A tag from a binary GET names the same version
+        int end = value.endsWith(BINARY_SUFFIX + "\"") ? value.length() - 1 - BINARY_SUFFIX.length() : value.length() - 1;
+        try {
+            return Long.parseLong(value, 1, end, 10);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match must be a single task ETag, e.g. \"3\"");
+        }
+    }
+}
@@ -1,9 +1,32 @@
 package com.example.taskmanagerapp.util;
 
+import com.example.taskmanagerapp.enums.IdStrategy;
+
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class IdGeneratorUtil {
+    private static volatile IdStrategy strategy = IdStrategy.UUID_V7;
+
     public static String generateId() {
+        return strategy == IdStrategy.UUID_V7 ? uuidV7() : uuidV4();
+    }
+
+    public static void setStrategy(IdStrategy idStrategy) {
+        strategy = idStrategy;
+    }
+
+    public static String uuidV4() {
         return UUID.randomUUID().toString();
     }
+
+    // RFC 9562 version 7: 48-bit Unix millis first, so new keys append to the right edge of the primary key index.
+    // The random bits come from ThreadLocalRandom instead of the shared SecureRandom behind randomUUID;
+    // ids identify tasks but aren't secrets, so they don't need to be unguessable
+    public static String uuidV7() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
 }
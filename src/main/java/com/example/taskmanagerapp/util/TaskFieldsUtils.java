@@ -0,0 +1,64 @@
+package com.example.taskmanagerapp.util;
+
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.exceptions.InvalidQueryException;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+public class TaskFieldsUtils {
+    // One filter per fieldset, built once
+    private static final FilterProvider[] FILTERS = new FilterProvider[TaskFields.ALL.getMask() + 1];
+
+    static {
+        for (int mask = 0; mask < FILTERS.length; mask++) {
+            FILTERS[mask] = new SimpleFilterProvider().addFilter(TaskResponseDTO.FIELDS_FILTER,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(new TaskFields(mask).names()));
+        }
+    }
+
+    // Comma-separated response property names; absent or blank means every field
+    public static TaskFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return TaskFields.ALL;
+        }
+        int mask = 0;
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            int bit = -1;
+            for (int i = 0; i < TaskFields.NAMES.length; i++) {
+                if (TaskFields.NAMES[i].equals(name)) {
+                    bit = i;
+                    break;
+                }
+            }
+            if (bit < 0) {
+                throw new InvalidQueryException("Unknown field '" + name + "', valid fields are: " + String.join(", ", TaskFields.NAMES));
+            }
+            mask |= 1 << bit;
+        }
+        return new TaskFields(mask);
+    }
+
+    // Wraps a response body so Jackson writes only the requested task properties; a full fieldset is left as it is
+    public static Object project(Object body, TaskFields fields) {
+        if (fields.isAll()) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(FILTERS[fields.getMask()]);
+        return value;
+    }
+
+    // The fieldset a body was wrapped with by project, for writers other than Jackson
+    public static TaskFields fieldsOf(MappingJacksonValue value) {
+        for (int mask = 0; mask < FILTERS.length; mask++) {
+            if (FILTERS[mask] == value.getFilters()) {
+                return new TaskFields(mask);
+            }
+        }
+        return TaskFields.ALL;
+    }
+}
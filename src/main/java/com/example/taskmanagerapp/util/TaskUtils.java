@@ -1,14 +1,94 @@
 package com.example.taskmanagerapp.util;
 
 import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.exceptions.InvalidDateException;
+import com.example.taskmanagerapp.exceptions.InvalidStatusException;
+import com.example.taskmanagerapp.models.TaskFilter;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TaskUtils {
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
     public static  boolean isValidTaskStatus(String status) {
-        try {
-            TaskStatus.valueOf(status.toUpperCase());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        return parseStatus(status) != null;
+    }
+
+    // Case-insensitive match against the cached constants; no upper-cased copy and no exception for unknown values
+    public static TaskStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        for (TaskStatus candidate : STATUSES) {
+            if (candidate.name().equalsIgnoreCase(status)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Parses yyyy-MM-dd by hand, returning null for anything LocalDate.parse would reject instead of throwing
+    public static LocalDate parseIsoDate(String date) {
+        if (date == null || date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(date, 0, 4);
+        int month = digits(date, 5, 7);
+        int day = digits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        int monthLength = month == 2 ? (Year.isLeap(year) ? 29 : 28) : (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);
+        if (day > monthLength) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static TaskFilter toTaskFilter(List<String> statuses, String dueFrom, String dueTo) {
+        TaskFilter filter = new TaskFilter();
+        if (statuses != null && !statuses.isEmpty()) {
+            List<TaskStatus> taskStatuses = new ArrayList<>();
+            for (String status : statuses) {
+                TaskStatus taskStatus = parseStatus(status);
+                if (taskStatus == null) {
+                    throw new InvalidStatusException("Valid statuses are: PENDING, IN_PROGRESS, DONE");
+                }
+                taskStatuses.add(taskStatus);
+            }
+            filter.setStatuses(taskStatuses);
+        }
+        filter.setDueFrom(parseOptionalDate(dueFrom));
+        filter.setDueTo(parseOptionalDate(dueTo));
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new InvalidDateException("dueFrom must not be after dueTo");
+        }
+        return filter;
+    }
+
+    private static LocalDate parseOptionalDate(String date) {
+        if (date == null || date.isEmpty()) {
+            return null;
+        }
+        LocalDate parsed = parseIsoDate(date);
+        if (parsed == null) {
+            throw new InvalidDateException("Invalid date format, expected yyyy-MM-dd");
         }
+        return parsed;
     }
 }
@@ -0,0 +1,120 @@
+package com.example.taskmanagerapp.validation;
+
+import com.example.taskmanagerapp.dto.TaskPatchRequestDTO;
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import com.example.taskmanagerapp.util.TaskUtils;
+
+import java.time.LocalDate;
+
+// Validates and parses task requests without throwing, so rejecting bad input costs about as much as accepting good input
+public class TaskValidator {
+    public static final String INVALID_TITLE = "INVALID_TITLE";
+    public static final String INVALID_DATE = "INVALID_DATE";
+    public static final String INVALID_STATUS = "INVALID_STATUS";
+
+    static final int MAX_TITLE_LENGTH = 100;
+
+    private static final String VALID_STATUSES = "Valid statuses are: PENDING, IN_PROGRESS, DONE";
+
+    public static ValidationResult<TaskModel> validateNewTask(TaskRequestDTO dto) {
+        if (dto == null || dto.getTitle() == null || dto.getTitle().isEmpty()) {
+            return ValidationResult.invalid(INVALID_TITLE, "Title is required");
+        }
+        if (dto.getTitle().length() > MAX_TITLE_LENGTH) {
+            return ValidationResult.invalid(INVALID_TITLE, "Title must be at most " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (dto.getDueDate() == null || dto.getDueDate().isEmpty()) {
+            return ValidationResult.invalid(INVALID_DATE, "Due date is required");
+        }
+        TaskStatus status = null;
+        if (dto.getStatus() != null) {
+            status = TaskUtils.parseStatus(dto.getStatus());
+            if (status == null) {
+                return ValidationResult.invalid(INVALID_STATUS, VALID_STATUSES);
+            }
+        }
+        return validateDueDate(dto, status);
+    }
+
+    // Updates replace the whole task, so status is required here
+    public static ValidationResult<TaskModel> validateTaskUpdate(TaskRequestDTO dto) {
+        if (dto.getTitle() == null || dto.getTitle().trim().isEmpty()) {
+            return ValidationResult.invalid(INVALID_TITLE, "Title is required");
+        }
+        if (dto.getTitle().length() > MAX_TITLE_LENGTH) {
+            return ValidationResult.invalid(INVALID_TITLE, "Title must be at most " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (dto.getDueDate() == null || dto.getDueDate().isEmpty()) {
+            return ValidationResult.invalid(INVALID_DATE, "Due date is required");
+        }
+        if (dto.getStatus() == null || dto.getStatus().isEmpty()) {
+            return ValidationResult.invalid(INVALID_STATUS, "Status is required");
+        }
+        TaskStatus status = TaskUtils.parseStatus(dto.getStatus());
+        if (status == null) {
+            return ValidationResult.invalid(INVALID_STATUS, VALID_STATUSES);
+        }
+        return validateDueDate(dto, status);
+    }
+
+    // Merge-patch semantics: only the fields present are checked and changed. Description may be sent as null to clear it;
+    // the other fields are required on a task, so null is rejected for them
+    public static ValidationResult<TaskPatch> validateTaskPatch(TaskPatchRequestDTO dto) {
+        TaskPatch patch = new TaskPatch();
+        if (dto.hasTitle()) {
+            if (dto.getTitle() == null || dto.getTitle().trim().isEmpty()) {
+                return ValidationResult.invalid(INVALID_TITLE, "Title is required");
+            }
+            if (dto.getTitle().length() > MAX_TITLE_LENGTH) {
+                return ValidationResult.invalid(INVALID_TITLE, "Title must be at most " + MAX_TITLE_LENGTH + " characters");
+            }
+            patch.setTitle(dto.getTitle());
+        }
+        if (dto.hasDescription()) {
+            patch.setDescription(dto.getDescription());
+        }
+        if (dto.hasStatus()) {
+            if (dto.getStatus() == null || dto.getStatus().isEmpty()) {
+                return ValidationResult.invalid(INVALID_STATUS, "Status is required");
+            }
+            TaskStatus status = TaskUtils.parseStatus(dto.getStatus());
+            if (status == null) {
+                return ValidationResult.invalid(INVALID_STATUS, VALID_STATUSES);
+            }
+            patch.setStatus(status);
+        }
+        if (dto.hasDueDate()) {
+            if (dto.getDueDate() == null || dto.getDueDate().isEmpty()) {
+                return ValidationResult.invalid(INVALID_DATE, "Due date is required");
+            }
+            LocalDate dueDate = TaskUtils.parseIsoDate(dto.getDueDate());
+            if (dueDate == null) {
+                return ValidationResult.invalid(INVALID_DATE, "Invalid date format, expected yyyy-MM-dd");
+            }
+            if (dueDate.isBefore(LocalDate.now())) {
+                return ValidationResult.invalid(INVALID_DATE, "Invalid date, date should be of future");
+            }
+            patch.setDueDate(dueDate);
+        }
+        return ValidationResult.valid(patch);
+    }
+
+    private static ValidationResult<TaskModel> validateDueDate(TaskRequestDTO dto, TaskStatus status) {
+        LocalDate dueDate = TaskUtils.parseIsoDate(dto.getDueDate());
+        if (dueDate == null) {
+            return ValidationResult.invalid(INVALID_DATE, "Invalid date format, expected yyyy-MM-dd");
+        }
+        if (dueDate.isBefore(LocalDate.now())) {
+            return ValidationResult.invalid(INVALID_DATE, "Invalid date, date should be of future");
+        }
+        TaskModel task = new TaskModel();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return ValidationResult.valid(task);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagerapp.validation;
+
+// Outcome of validating one input: either the parsed value or an error code and message, never both
+public class ValidationResult<T> {
+    private final T value;
+    private final String code;
+    private final String message;
+
+    private ValidationResult(T value, String code, String message) {
+        this.value = value;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static <T> ValidationResult<T> valid(T value) {
+        return new ValidationResult<>(value, null, null);
+    }
+
+    public static <T> ValidationResult<T> invalid(String code, String message) {
+        return new ValidationResult<>(null, code, message);
+    }
+
+    public boolean isValid() {
+        return code == null;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanagerapp.wal;
+
+import com.example.taskmanagerapp.models.TaskModel;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// One mutation, written as the full resulting tasks or the removed ids. A whole batch is a single record,
+// so after a crash it is replayed completely or not at all, and replaying it twice changes nothing
+public class LogRecord {
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private final byte type;
+    private final List<TaskModel> tasks;
+    private final List<String> taskIds;
+
+    private LogRecord(byte type, List<TaskModel> tasks, List<String> taskIds) {
+        this.type = type;
+        this.tasks = tasks;
+        this.taskIds = taskIds;
+    }
+
+    public static LogRecord put(List<TaskModel> tasks) {
+        return new LogRecord(PUT, tasks, List.of());
+    }
+
+    public static LogRecord delete(List<String> taskIds) {
+        return new LogRecord(DELETE, List.of(), taskIds);
+    }
+
+    public boolean isPut() {
+        return type == PUT;
+    }
+
+    public List<TaskModel> getTasks() {
+        return tasks;
+    }
+
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    byte getType() {
+        return type;
+    }
+
+    // int count, then each task or id
+    byte[] encodePayload() {
+        List<byte[]> items = new ArrayList<>();
+        int size = 4;
+        if (type == PUT) {
+            for (TaskModel task : tasks) {
+                byte[] encoded = TaskCodec.encode(task);
+                items.add(encoded);
+                size += encoded.length;
+            }
+        } else {
+            for (String taskId : taskIds) {
+                byte[] id = TaskCodec.utf8(taskId);
+                items.add(id);
+                size += TaskCodec.size(id);
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(items.size());
+        for (byte[] item : items) {
+            if (type == PUT) {
+                buffer.put(item);
+            } else {
+                TaskCodec.putString(buffer, item);
+            }
+        }
+        return buffer.array();
+    }
+
+    static LogRecord decode(byte type, ByteBuffer payload) {
+        int count = payload.getInt();
+        if (type == PUT) {
+            List<TaskModel> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                tasks.add(TaskCodec.decode(payload));
+            }
+            return put(tasks);
+        }
+        if (type == DELETE) {
+            List<String> taskIds = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                taskIds.add(TaskCodec.getString(payload));
+            }
+            return delete(taskIds);
+        }
+        throw new IllegalStateException("Unknown log record type " + type);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.taskmanagerapp.wal;
+
+import com.example.taskmanagerapp.models.TaskModel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Full copy of the store as of an LSN, named snapshot-<lsn>.snap:
+// [int magic][int version][long lsn] then each task as [int length][encoded task], a -1 length, [long task count][int CRC32C].
+// It is written to a .tmp file, forced and renamed into place, so a snapshot file is either complete or absent
+public final class SnapshotFile {
+    private static final int MAGIC = 0x54534E50;
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private SnapshotFile() {
+    }
+
+    // The source hands every task to the given consumer
+    public static Path write(Path directory, long lsn, Consumer<Consumer<TaskModel>> source) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, lsn, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + TEMP_SUFFIX);
+        CRC32C crc = new CRC32C();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(lsn);
+            long[] count = new long[1];
+            source.accept(task -> {
+                byte[] encoded = TaskCodec.encode(task);
+                try {
+                    out.writeInt(encoded.length);
+                    out.write(encoded);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            out.writeInt(-1);
+            out.writeLong(count[0]);
+            out.flush();
+            // The checksum goes around everything before it, so it is written past the checked stream
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            file.getFD().sync();
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        WriteAheadLog.syncDirectory(directory);
+        return target;
+    }
+
+    // Loads the newest snapshot into the consumer and returns its LSN, or 0 when there is none
+    public static long loadLatest(Path directory, Consumer<TaskModel> consumer) throws IOException {
+        List<Path> snapshots = list(directory);
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        Path latest = snapshots.get(snapshots.size() - 1);
+        CRC32C crc = new CRC32C();
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(latest), 1 << 16);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("Not a task snapshot: " + latest);
+            }
+            long lsn = in.readLong();
+            long count = 0;
+            byte[] encoded = new byte[256];
+            for (int length = in.readInt(); length >= 0; length = in.readInt()) {
+                if (length > encoded.length) {
+                    encoded = new byte[Math.max(length, encoded.length * 2)];
+                }
+                in.readFully(encoded, 0, length);
+                consumer.accept(TaskCodec.decode(ByteBuffer.wrap(encoded, 0, length)));
+                count++;
+            }
+            long expectedCount = in.readLong();
+            int expectedCrc = (int) crc.getValue();
+            if (count != expectedCount || new DataInputStream(file).readInt() != expectedCrc) {
+                // Renamed into place only after a full write, so this is damage on disk rather than a crash
+                throw new IllegalStateException("Task snapshot is corrupt: " + latest);
+            }
+            return lsn;
+        }
+    }
+
+    public static void deleteOlderThan(Path directory, long lsn) throws IOException {
+        for (Path snapshot : list(directory)) {
+            if (lsn(snapshot) < lsn) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    // Leftovers of a snapshot that was cut short by a crash
+    public static void deleteTemporaryFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(path -> path.getFileName().toString().endsWith(SUFFIX + TEMP_SUFFIX)).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(SnapshotFile::lsn))
+                    .toList();
+        }
+    }
+
+    private static long lsn(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
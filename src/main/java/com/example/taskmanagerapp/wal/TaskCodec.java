@@ -0,0 +1,69 @@
+package com.example.taskmanagerapp.wal;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// Binary form of a task shared by log records and snapshots:
+// id, title, description as int length + UTF-8 (-1 for null), status ordinal byte (-1 for null), due date as epoch day, version
+final class TaskCodec {
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    static byte[] encode(TaskModel task) {
+        byte[] id = utf8(task.getId());
+        byte[] title = utf8(task.getTitle());
+        byte[] description = utf8(task.getDescription());
+        ByteBuffer buffer = ByteBuffer.allocate(size(id) + size(title) + size(description) + 1 + 8 + 8);
+        putString(buffer, id);
+        putString(buffer, title);
+        putString(buffer, description);
+        buffer.put(task.getStatus() != null ? (byte) task.getStatus().ordinal() : -1);
+        buffer.putLong(task.getDueDate() != null ? task.getDueDate().toEpochDay() : NO_DATE);
+        buffer.putLong(task.getVersion());
+        return buffer.array();
+    }
+
+    static TaskModel decode(ByteBuffer buffer) {
+        TaskModel task = new TaskModel();
+        task.setId(getString(buffer));
+        task.setTitle(getString(buffer));
+        task.setDescription(getString(buffer));
+        byte status = buffer.get();
+        task.setStatus(status >= 0 ? STATUSES[status] : null);
+        long dueDate = buffer.getLong();
+        task.setDueDate(dueDate != NO_DATE ? LocalDate.ofEpochDay(dueDate) : null);
+        task.setVersion(buffer.getLong());
+        return task;
+    }
+
+    static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    static int size(byte[] value) {
+        return 4 + (value != null ? value.length : 0);
+    }
+
+    static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
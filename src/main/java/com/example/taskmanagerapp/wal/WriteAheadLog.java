@@ -0,0 +1,384 @@
+package com.example.taskmanagerapp.wal;
+
+import com.example.taskmanagerapp.enums.FsyncPolicy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only log of task mutations in fixed-size, memory-mapped segment files named after their first LSN.
+// Each record is [int length][int CRC32C][long lsn][byte type][payload], where length and checksum cover
+// everything after the checksum. A zero length marks the end of the written part of a segment.
+// LSNs increase by one per record, so a checksum mismatch, a gap or a torn write all end replay at the same place
+public class WriteAheadLog implements Closeable {
+    private static final int HEADER_BYTES = 8;
+    private static final int MIN_BODY_BYTES = 9;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMillis;
+
+    // Guarded by this
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private int forcedPosition;
+    private long forcedLsn;
+    private long lastLsn;
+
+    // Only one thread forces at a time; under group commit, writers that queue behind it are usually covered by the next force
+    private final Object syncLock = new Object();
+    private final AtomicLong durableLsn = new AtomicLong();
+    private ScheduledExecutorService flusher;
+    private final AtomicLong syncFailures = new AtomicLong();
+    // Set by the first failed force, under any policy. After a failed force the kernel may have dropped the pages it
+    // couldn't write, so a later force succeeding proves nothing about them: appends and syncs are refused until the
+    // log is reopened and recovered
+    private volatile RuntimeException syncFailure;
+
+    public WriteAheadLog(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+    }
+
+    // Hands every intact record with an LSN above afterLsn to the consumer, in order, and opens the log for appends
+    // after the last one. A bad record in the last segment is a write cut short by a crash: it and anything after it
+    // are wiped. A bad record in an earlier segment means acknowledged writes are gone, so recovery fails instead
+    public synchronized long recover(long afterLsn, Consumer<LogRecord> consumer) throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(WriteAheadLog::isSegment).forEach(path -> segments.put(firstLsn(path), path));
+        }
+        lastLsn = afterLsn;
+        Long expectedLsn = null;
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            Long nextFirstLsn = segments.higherKey(segment.getKey());
+            boolean last = nextFirstLsn == null;
+            if (expectedLsn == null && segment.getKey() > afterLsn + 1) {
+                throw new IllegalStateException("Write-ahead log starts at LSN " + segment.getKey()
+                        + " but the snapshot only covers up to " + afterLsn);
+            }
+            if (expectedLsn != null && !segment.getKey().equals(expectedLsn) && segment.getKey() > afterLsn + 1) {
+                throw new IllegalStateException("Write-ahead log segment " + segment.getValue() + " doesn't follow LSN " + (expectedLsn - 1));
+            }
+            if (!last && nextFirstLsn - 1 <= afterLsn) {
+                // Every record in here is already in the snapshot
+                expectedLsn = nextFirstLsn;
+                continue;
+            }
+            FileChannel segmentChannel = FileChannel.open(segment.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer segmentBuffer = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            long lsn = segment.getKey();
+            int offset = 0;
+            while (offset + HEADER_BYTES <= segmentSize) {
+                int length = segmentBuffer.getInt(offset);
+                if (length == 0) {
+                    break;
+                }
+                if (!isIntact(segmentBuffer, offset, length, lsn)) {
+                    if (!last) {
+                        segmentChannel.close();
+                        throw new IllegalStateException("Write-ahead log segment " + segment.getValue() + " is corrupt at offset " + offset);
+                    }
+                    wipe(segmentBuffer, offset);
+                    break;
+                }
+                if (lsn > afterLsn) {
+                    ByteBuffer payload = segmentBuffer.slice(offset + HEADER_BYTES + MIN_BODY_BYTES, length - MIN_BODY_BYTES);
+                    consumer.accept(LogRecord.decode(segmentBuffer.get(offset + HEADER_BYTES + 8), heapCopy(payload)));
+                }
+                lastLsn = Math.max(lastLsn, lsn);
+                lsn++;
+                offset += HEADER_BYTES + length;
+            }
+            expectedLsn = lsn;
+            if (last) {
+                channel = segmentChannel;
+                buffer = segmentBuffer;
+                position = offset;
+                forcedPosition = offset;
+            } else {
+                segmentChannel.close();
+            }
+        }
+        if (buffer == null || (expectedLsn != null && expectedLsn <= lastLsn)) {
+            // Either no log yet, or the snapshot is ahead of it; LSNs must stay contiguous within a segment
+            if (channel != null) {
+                channel.close();
+            }
+            openSegment(lastLsn + 1);
+        }
+        forcedLsn = lastLsn;
+        durableLsn.set(lastLsn);
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::backgroundSync, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return lastLsn;
+    }
+
+    // Returns the record's LSN. With the ALWAYS policy it is forced to disk before this returns;
+    // otherwise call awaitDurable with the returned LSN
+    public synchronized long append(LogRecord record) {
+        checkNotFailed();
+        byte[] payload = record.encodePayload();
+        int bodyLength = MIN_BODY_BYTES + payload.length;
+        if (HEADER_BYTES + bodyLength > segmentSize) {
+            throw new IllegalArgumentException("Log record of " + bodyLength + " bytes doesn't fit a " + segmentSize + " byte segment");
+        }
+        if (position + HEADER_BYTES + bodyLength > segmentSize) {
+            roll();
+        }
+        long lsn = lastLsn + 1;
+        int body = position + HEADER_BYTES;
+        buffer.putLong(body, lsn);
+        buffer.put(body + 8, record.getType());
+        buffer.put(body + MIN_BODY_BYTES, payload);
+        buffer.putInt(position + 4, checksum(buffer, body, bodyLength));
+        buffer.putInt(position, bodyLength);
+        position = body + bodyLength;
+        lastLsn = lsn;
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            forceTail();
+        }
+        return lastLsn;
+    }
+
+    // Group commit: returns once the record with this LSN is on disk. The ALWAYS policy already forced it
+    // in append, and the INTERVAL policy accepts losing the last interval's writes, so both return at once
+    public void awaitDurable(long lsn) {
+        if (fsyncPolicy != FsyncPolicy.GROUP || durableLsn.get() >= lsn) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableLsn.get() < lsn) {
+                syncLocked();
+            }
+        }
+    }
+
+    // Forces everything appended so far, whatever the policy, and returns the last LSN now on disk
+    public long sync() {
+        synchronized (syncLock) {
+            return syncLocked();
+        }
+    }
+
+    public synchronized long lastLsn() {
+        return lastLsn;
+    }
+
+    // Drops segments whose records are all at or below lsn, never the one being written
+    public synchronized void deleteSegmentsThrough(long lsn) throws IOException {
+        Long first = segments.firstKey();
+        while (first != null) {
+            Long next = segments.higherKey(first);
+            if (next == null || next - 1 > lsn) {
+                break;
+            }
+            Files.deleteIfExists(segments.remove(first));
+            first = next;
+        }
+        syncDirectory(directory);
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    // Failed forces of the log, in the background or for a caller
+    public long syncFailures() {
+        return syncFailures.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        try {
+            sync();
+        } finally {
+            synchronized (this) {
+                channel.close();
+            }
+        }
+    }
+
+    private void checkNotFailed() {
+        if (syncFailure != null) {
+            throw new IllegalStateException("Write-ahead log refuses writes after a failed fsync", syncFailure);
+        }
+    }
+
+    private long syncLocked() {
+        checkNotFailed();
+        MappedByteBuffer target;
+        int from;
+        int to;
+        long lsn;
+        synchronized (this) {
+            target = buffer;
+            from = forcedPosition;
+            to = position;
+            lsn = lastLsn;
+        }
+        if (to > from) {
+            try {
+                force(target, from, to - from);
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+        }
+        synchronized (this) {
+            // A roll in between already forced the old segment in full
+            if (buffer == target && to > forcedPosition) {
+                forcedPosition = to;
+                forcedLsn = lsn;
+            }
+        }
+        durableLsn.accumulateAndGet(lsn, Math::max);
+        return lsn;
+    }
+
+    // Under the INTERVAL policy nobody waits on this sync, so a failure can't reach the writer it concerns;
+    // it is counted and stops further appends instead
+    private void backgroundSync() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            // Already recorded by failed, or the log failed earlier
+        }
+    }
+
+    // Under ALWAYS and GROUP every record past the last good force belongs
+    // to a writer that gets an exception, so those records are zeroed and taken back: they never count as durable, and
+    // if the zeroed pages do reach disk, replay stops in front of them. Under INTERVAL they were already acknowledged
+    // and are left for the kernel to write if it still can
+    private synchronized void failed(RuntimeException e) {
+        syncFailures.incrementAndGet();
+        if (syncFailure == null) {
+            syncFailure = e;
+        }
+        if (fsyncPolicy != FsyncPolicy.INTERVAL && position > forcedPosition) {
+            buffer.put(forcedPosition, new byte[position - forcedPosition]);
+            position = forcedPosition;
+            lastLsn = forcedLsn;
+        }
+    }
+
+    // Caller holds this
+    private void forceTail() {
+        if (position > forcedPosition) {
+            try {
+                force(buffer, forcedPosition, position - forcedPosition);
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            }
+            forcedPosition = position;
+            forcedLsn = lastLsn;
+        }
+        durableLsn.accumulateAndGet(lastLsn, Math::max);
+    }
+
+    // Overridden by tests to simulate a failing disk
+    void force(MappedByteBuffer target, int from, int length) {
+        target.force(from, length);
+    }
+
+    private void roll() {
+        forceTail();
+        try {
+            channel.close();
+            openSegment(lastLsn + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSegment(long firstLsn) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        position = 0;
+        forcedPosition = 0;
+        forcedLsn = firstLsn - 1;
+        segments.put(firstLsn, path);
+        syncDirectory(directory);
+    }
+
+    private boolean isIntact(MappedByteBuffer segment, int offset, int length, long expectedLsn) {
+        int body = offset + HEADER_BYTES;
+        return length >= MIN_BODY_BYTES
+                && length <= segmentSize - body
+                && segment.getLong(body) == expectedLsn
+                && segment.getInt(offset + 4) == checksum(segment, body, length);
+    }
+
+    // Zeroes everything from offset on, so appends after recovery never sit in front of leftovers of a torn write
+    private static void wipe(MappedByteBuffer segment, int offset) {
+        byte[] zeros = new byte[64 * 1024];
+        for (int i = offset; i < segment.capacity(); i += zeros.length) {
+            segment.put(i, zeros, 0, Math.min(zeros.length, segment.capacity() - i));
+        }
+        segment.force();
+    }
+
+    private static int checksum(ByteBuffer segment, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static ByteBuffer heapCopy(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long firstLsn(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // New and renamed files only survive a crash once their directory entry is on disk too
+    static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Some platforms can't open a directory for syncing; there the rename or create is as durable as it gets
+        }
+    }
+}
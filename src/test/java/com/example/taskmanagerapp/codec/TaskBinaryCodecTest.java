@@ -0,0 +1,99 @@
+package com.example.taskmanagerapp.codec;
+
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.models.TaskFields;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskBinaryCodecTest {
+
+    private static TaskResponseDTO task(String id, String description, String status, LocalDate dueDate, long version) {
+        TaskResponseDTO task = new TaskResponseDTO();
+        task.setId(id);
+        task.setTitle("Title " + id);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        task.setVersion(version);
+        return task;
+    }
+
+    private static void assertSameTask(TaskResponseDTO expected, TaskResponseDTO actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getDueDate(), actual.getDueDate());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+
+    @Test
+    void pageShouldRoundTripIncludingNullsUnicodeAndDatesBefore1970() {
+        List<TaskResponseDTO> tasks = List.of(
+                task("a", "Ünïcødé ✓ " + "x".repeat(300), "DONE", LocalDate.of(2030, 1, 1), 1),
+                task("b", null, null, null, 0),
+                task("c", "", "IN_PROGRESS", LocalDate.of(1960, 6, 15), Long.MAX_VALUE));
+        PaginatedTaskResponseDTO page = new PaginatedTaskResponseDTO(tasks, true, 123_456_789_012L, 4, 3);
+
+        PaginatedTaskResponseDTO decoded = TaskBinaryCodec.decodePage(TaskBinaryCodec.encode(page, TaskFields.ALL));
+
+        assertEquals(123_456_789_012L, decoded.getTotal());
+        assertEquals(4, decoded.getPage());
+        assertEquals(3, decoded.getSize());
+        assertTrue(decoded.isHasMore());
+        assertEquals(3, decoded.getTasks().size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertSameTask(tasks.get(i), decoded.getTasks().get(i));
+        }
+    }
+
+    @Test
+    void cursorPageAndTaskShouldRoundTrip() {
+        TaskResponseDTO task = task("id-1", "Description", "PENDING", LocalDate.of(2031, 2, 3), 7);
+        CursorTaskResponseDTO page = new CursorTaskResponseDTO(Arrays.asList(task), false, null, 50);
+
+        CursorTaskResponseDTO decoded = TaskBinaryCodec.decodeCursorPage(TaskBinaryCodec.encode(page, TaskFields.ALL));
+
+        assertFalse(decoded.isHasMore());
+        assertNull(decoded.getNextCursor());
+        assertEquals(50, decoded.getSize());
+        assertSameTask(task, decoded.getTasks().get(0));
+        assertSameTask(task, TaskBinaryCodec.decodeTask(TaskBinaryCodec.encode(task, TaskFields.ALL)));
+    }
+
+    @Test
+    void encodeShouldWriteSkippedFieldsAsOneNullByteEach() {
+        TaskResponseDTO task = task("id-1", "x".repeat(1000), "PENDING", LocalDate.of(2031, 2, 3), 7);
+
+        byte[] sparse = TaskBinaryCodec.encode(task, new TaskFields(TaskFields.ID | TaskFields.STATUS));
+        TaskResponseDTO decoded = TaskBinaryCodec.decodeTask(sparse);
+
+        // version byte, id length + 4 bytes, then one byte each for title, description, status, due date, version
+        assertEquals(1 + 5 + 5, sparse.length);
+        assertEquals("id-1", decoded.getId());
+        assertEquals("PENDING", decoded.getStatus());
+        assertNull(decoded.getTitle());
+        assertNull(decoded.getDescription());
+        assertNull(decoded.getDueDate());
+        assertEquals(0, decoded.getVersion());
+    }
+
+    @Test
+    void decodeShouldRejectTruncatedOrForeignMessages() {
+        TaskResponseDTO task = task("id-1", "Description", "PENDING", LocalDate.of(2031, 2, 3), 300);
+        byte[] bytes = TaskBinaryCodec.encode(new PaginatedTaskResponseDTO(List.of(task, task), false, 2, 0, 2), TaskFields.ALL);
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] cut = Arrays.copyOf(bytes, length);
+            assertThrows(IllegalArgumentException.class, () -> TaskBinaryCodec.decodePage(cut), "cut at " + length);
+        }
+        assertThrows(IllegalArgumentException.class, () -> TaskBinaryCodec.decodeTask("{\"id\":1}".getBytes()));
+    }
+}
@@ -1,28 +1,60 @@
 package com.example.taskmanagerapp.controllers;
 
+import com.example.taskmanagerapp.cache.RenderedTask;
+import com.example.taskmanagerapp.codec.TaskBinaryCodec;
+import com.example.taskmanagerapp.config.JacksonConfig;
+import com.example.taskmanagerapp.config.TaskBinaryConfig;
+import com.example.taskmanagerapp.dto.BatchItemResultDTO;
+import com.example.taskmanagerapp.dto.BatchTaskResponseDTO;
+import com.example.taskmanagerapp.dto.BulkOperationResponseDTO;
+import com.example.taskmanagerapp.dto.CacheStatsDTO;
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
 import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.PurgeStatsDTO;
+import com.example.taskmanagerapp.dto.SearchTaskResponseDTO;
 import com.example.taskmanagerapp.dto.TaskRequestDTO;
 import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.exceptions.InvalidCursorException;
 import com.example.taskmanagerapp.exceptions.InvalidPageOrSizeException;
+import com.example.taskmanagerapp.exceptions.InvalidQueryException;
+import com.example.taskmanagerapp.exceptions.PreconditionFailedException;
 import com.example.taskmanagerapp.exceptions.TaskNotFoundException;
+import com.example.taskmanagerapp.dto.ImportReportDTO;
+import com.example.taskmanagerapp.dto.IngestStatusDTO;
+import com.example.taskmanagerapp.enums.IngestState;
+import com.example.taskmanagerapp.exceptions.IngestQueueFullException;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.services.TaskExportService;
+import com.example.taskmanagerapp.services.TaskImportService;
+import com.example.taskmanagerapp.services.TaskIngestService;
+import com.example.taskmanagerapp.services.TaskPurgeService;
 import com.example.taskmanagerapp.services.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import java.time.LocalDate;
 import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskController.class)
+@Import({JacksonConfig.class, TaskBinaryConfig.class})
 class TaskControllerTest {
 
     @Autowired
@@ -31,6 +63,21 @@ class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskExportService taskExportService;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskPurgeService taskPurgeService;
+
+    @MockitoBean
+    private TaskIngestService taskIngestService;
+
+    @MockitoBean
+    private TaskMetrics taskMetrics;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -54,6 +101,10 @@ class TaskControllerTest {
         taskResponseDTO.setDueDate(LocalDate.of(2025, 12, 31));
     }
 
+    private RenderedTask rendered(TaskResponseDTO dto) throws Exception {
+        return new RenderedTask(dto.getVersion(), objectMapper.writeValueAsBytes(dto));
+    }
+
     @Test
     void createTaskShouldReturnCreatedTaskWhenValidRequest() throws Exception {
         when(taskService.saveTask(any(TaskRequestDTO.class))).thenReturn(taskResponseDTO);
@@ -67,13 +118,60 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    void createTaskShouldReturnAcceptedWithStatusUrlWhenIngestIsAsync() throws Exception {
+        when(taskIngestService.isAsync()).thenReturn(true);
+        when(taskIngestService.enqueue(any(TaskRequestDTO.class)))
+                .thenReturn(new IngestStatusDTO("queued-id", IngestState.QUEUED))
+                .thenThrow(new IngestQueueFullException("Ingest queue is full, try again later"));
+        when(taskIngestService.status("queued-id")).thenReturn(new IngestStatusDTO("queued-id", IngestState.STORED));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/tasks/ingest/queued-id"))
+                .andExpect(jsonPath("$.id").value("queued-id"))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("INGEST_QUEUE_FULL"));
+        mockMvc.perform(get("/api/v1/tasks/ingest/{id}", "queued-id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STORED"));
+        verify(taskService, never()).saveTask(any());
+        verify(taskMetrics).countError("INGEST_QUEUE_FULL");
+    }
+
+    @Test
+    void createTasksShouldReturnPerItemResults() throws Exception {
+        BatchTaskResponseDTO batchResponse = new BatchTaskResponseDTO(1, 1, Arrays.asList(
+                BatchItemResultDTO.created(0, "test-id-123"),
+                BatchItemResultDTO.failed(1, "INVALID_TITLE", "Title is required")));
+        when(taskService.saveTasks(anyList())).thenReturn(batchResponse);
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(taskRequestDTO, new TaskRequestDTO()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].id").value("test-id-123"))
+                .andExpect(jsonPath("$.results[1].code").value("INVALID_TITLE"));
+    }
+
     @Test
     void getTaskByIdShouldReturnTaskWhenTaskExists() throws Exception {
         String taskId = "test-id-123";
-        when(taskService.getTaskById(taskId)).thenReturn(taskResponseDTO);
+        when(taskService.getRenderedTask(taskId)).thenReturn(rendered(taskResponseDTO));
 
         mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().longValue("Content-Length", objectMapper.writeValueAsBytes(taskResponseDTO).length))
                 .andExpect(jsonPath("$.id").value("test-id-123"))
                 .andExpect(jsonPath("$.title").value("Test Task"));
     }
@@ -81,10 +179,11 @@ class TaskControllerTest {
     @Test
     void getTaskByIdShouldReturnNotFoundWhenTaskDoesNotExist() throws Exception {
         String taskId = "non-existent-id";
-        when(taskService.getTaskById(taskId)).thenThrow(new TaskNotFoundException("Task not found"));
+        when(taskService.getRenderedTask(taskId)).thenThrow(new TaskNotFoundException("Task not found"));
 
         mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
                 .andExpect(status().isNotFound());
+        verify(taskMetrics).countError("TASK_NOT_FOUND");
     }
 
     @Test
@@ -93,7 +192,7 @@ class TaskControllerTest {
         taskRequestDTO.setTitle("Updated Task");
         taskResponseDTO.setTitle("Updated Task");
 
-        when(taskService.updateTask(eq(taskId), any(TaskRequestDTO.class))).thenReturn(taskResponseDTO);
+        when(taskService.updateTask(eq(taskId), any(TaskRequestDTO.class), isNull())).thenReturn(taskResponseDTO);
 
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -105,7 +204,7 @@ class TaskControllerTest {
     @Test
     void updateTaskShouldReturnNotFoundWhenTaskDoesNotExist() throws Exception {
         String taskId = "non-existent-id";
-        when(taskService.updateTask(eq(taskId), any(TaskRequestDTO.class)))
+        when(taskService.updateTask(eq(taskId), any(TaskRequestDTO.class), isNull()))
                 .thenThrow(new TaskNotFoundException("Task not found"));
 
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
@@ -114,10 +213,26 @@ class TaskControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void patchTaskShouldPassOnlyThePresentFieldsToService() throws Exception {
+        taskResponseDTO.setStatus("DONE");
+        taskResponseDTO.setVersion(2);
+        when(taskService.patchTask(eq("test-id-123"), argThat(dto -> dto.hasStatus() && dto.hasDescription()
+                && dto.getDescription() == null && !dto.hasTitle() && !dto.hasDueDate()), isNull()))
+                .thenReturn(taskResponseDTO);
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", "test-id-123")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\":\"DONE\",\"description\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
     @Test
     void deleteTaskShouldReturnNoContentWhenTaskExists() throws Exception {
         String taskId = "test-id-123";
-        when(taskService.deleteTaskById(taskId)).thenReturn(true);
+        when(taskService.deleteTaskById(taskId, null)).thenReturn(true);
 
         mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
                 .andExpect(status().isNoContent());
@@ -126,18 +241,87 @@ class TaskControllerTest {
     @Test
     void deleteTaskShouldReturnNotFoundWhenTaskDoesNotExist() throws Exception {
         String taskId = "non-existent-id";
-        doThrow(new TaskNotFoundException("Task not found")).when(taskService).deleteTaskById(taskId);
+        doThrow(new TaskNotFoundException("Task not found")).when(taskService).deleteTaskById(taskId, null);
 
         mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getTaskByIdShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        taskResponseDTO.setVersion(3);
+        when(taskService.getRenderedTask("test-id-123")).thenReturn(rendered(taskResponseDTO));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateTaskShouldPassIfMatchVersionAndReturnNewETag() throws Exception {
+        taskResponseDTO.setVersion(5);
+        when(taskService.updateTask(eq("test-id-123"), any(TaskRequestDTO.class), eq(4L))).thenReturn(taskResponseDTO);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", "test-id-123")
+                .header("If-Match", "\"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""));
+    }
+
+    @Test
+    void updateAndDeleteShouldReturnPreconditionFailedWhenVersionIsStale() throws Exception {
+        when(taskService.updateTask(eq("test-id-123"), any(TaskRequestDTO.class), eq(1L)))
+                .thenThrow(new PreconditionFailedException("Task test-id-123 is no longer at version 1"));
+        doThrow(new PreconditionFailedException("Task test-id-123 is no longer at version 1"))
+                .when(taskService).deleteTaskById("test-id-123", 1L);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", "test-id-123")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("PRECONDITION_FAILED"));
+        mockMvc.perform(delete("/api/v1/tasks/{id}", "test-id-123").header("If-Match", "\"1\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", "test-id-123").header("If-Match", "W/\"1\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void bulkOperationsShouldReturnAffectedCount() throws Exception {
+        when(taskService.updateTasksStatus(any())).thenReturn(new BulkOperationResponseDTO(3));
+        when(taskService.deleteTasks(any())).thenReturn(new BulkOperationResponseDTO(2));
+        when(taskService.deleteDoneTasksDueBefore("2026-01-01")).thenReturn(new BulkOperationResponseDTO(4));
+
+        mockMvc.perform(put("/api/v1/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[\"a\",\"b\",\"c\"],\"status\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(3));
+        mockMvc.perform(post("/api/v1/tasks/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[\"a\",\"b\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+        mockMvc.perform(delete("/api/v1/tasks/done").param("dueBefore", "2026-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(4));
+    }
+
     @Test
     void getAllTasksShouldReturnPaginatedTasksWhenValidPageAndSize() throws Exception {
         PaginatedTaskResponseDTO paginatedResponse = new PaginatedTaskResponseDTO(
                 Arrays.asList(taskResponseDTO), false, 1L, 0, 5);
 
-        when(taskService.getAllTasks(0, 5)).thenReturn(paginatedResponse);
+        when(taskService.getAllTasks(eq(0), eq(5), any(TaskFilter.class), any(TaskFields.class))).thenReturn(paginatedResponse);
         mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.tasks").isArray())
@@ -146,12 +330,278 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.total").value(1));
     }
 
+    @Test
+    void listingsShouldReturnNotModifiedWithoutQueryingWhenChangeCountIsUnchanged() throws Exception {
+        when(taskService.getListETag()).thenReturn("\"list-7f-42\"");
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5).header("If-None-Match", "\"list-7f-42\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 5).header("If-None-Match", "\"list-7f-42\""))
+                .andExpect(status().isNotModified());
+        verify(taskService, never()).getAllTasks(anyInt(), anyInt(), any(), any());
+        verify(taskService, never()).getTasksAfterCursor(any(), anyInt(), any(), any());
+
+        when(taskService.getAllTasks(eq(0), eq(5), any(TaskFilter.class), any(TaskFields.class)))
+                .thenReturn(new PaginatedTaskResponseDTO(Arrays.asList(taskResponseDTO), false, 1L, 0, 5));
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5).header("If-None-Match", "\"list-7f-41\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"list-7f-42\""));
+    }
+
+    @Test
+    void listingsAndGetShouldWriteOnlyTheRequestedFields() throws Exception {
+        PaginatedTaskResponseDTO paginatedResponse = new PaginatedTaskResponseDTO(
+                Arrays.asList(taskResponseDTO), false, 1L, 0, 5);
+        when(taskService.getAllTasks(eq(0), eq(5), any(TaskFilter.class),
+                argThat(fields -> fields.getMask() == (TaskFields.ID | TaskFields.TITLE | TaskFields.STATUS))))
+                .thenReturn(paginatedResponse);
+        when(taskService.getTaskById(eq("test-id-123"), argThat(fields -> fields.getMask() == TaskFields.TITLE)))
+                .thenReturn(taskResponseDTO);
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5).param("fields", "id,title, status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value("test-id-123"))
+                .andExpect(jsonPath("$.tasks[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.tasks[0].description").doesNotExist())
+                .andExpect(jsonPath("$.tasks[0].dueDate").doesNotExist())
+                .andExpect(jsonPath("$.tasks[0].version").doesNotExist());
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"title\":\"Test Task\"}", true));
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 5).param("fields", "title,body"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_QUERY"));
+    }
+
+    @Test
+    void binaryAcceptShouldReturnTheCompactEncodingAndJsonStaysTheDefault() throws Exception {
+        PaginatedTaskResponseDTO paginatedResponse = new PaginatedTaskResponseDTO(
+                Arrays.asList(taskResponseDTO), true, 7L, 0, 5);
+        when(taskService.getAllTasks(eq(0), eq(5), any(TaskFilter.class), any(TaskFields.class))).thenReturn(paginatedResponse);
+        when(taskService.getTaskById(eq("test-id-123"), any(TaskFields.class))).thenReturn(taskResponseDTO);
+        when(taskService.getTaskById(eq("missing"), any(TaskFields.class))).thenThrow(new TaskNotFoundException("missing"));
+        when(taskService.getRenderedTask("test-id-123")).thenReturn(rendered(taskResponseDTO));
+        when(taskService.getListETag()).thenReturn("\"list-7f-42\"");
+
+        MvcResult page = mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5)
+                        .accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskBinaryCodec.MEDIA_TYPE))
+                .andReturn();
+        PaginatedTaskResponseDTO decoded = TaskBinaryCodec.decodePage(page.getResponse().getContentAsByteArray());
+        assertEquals(7L, decoded.getTotal());
+        assertTrue(decoded.isHasMore());
+        assertEquals("Test Task", decoded.getTasks().get(0).getTitle());
+        assertEquals(taskResponseDTO.getDueDate(), decoded.getTasks().get(0).getDueDate());
+
+        MvcResult task = mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").param("fields", "title")
+                        .accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andReturn();
+        TaskResponseDTO sparse = TaskBinaryCodec.decodeTask(task.getResponse().getContentAsByteArray());
+        assertEquals("Test Task", sparse.getTitle());
+        assertNull(sparse.getId());
+        assertNull(sparse.getStatus());
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "missing").accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("TASK_NOT_FOUND"));
+    }
+
+    @Test
+    void eachEncodingShouldCarryItsOwnETagAndVaryByAccept() throws Exception {
+        taskResponseDTO.setVersion(4);
+        when(taskService.getTaskById(eq("test-id-123"), any(TaskFields.class))).thenReturn(taskResponseDTO);
+        when(taskService.getRenderedTask("test-id-123")).thenReturn(rendered(taskResponseDTO));
+        when(taskService.getListETag()).thenReturn("\"list-7f-42\"");
+        when(taskService.getAllTasks(eq(0), eq(5), any(TaskFilter.class), any(TaskFields.class)))
+                .thenReturn(new PaginatedTaskResponseDTO(Arrays.asList(taskResponseDTO), false, 1L, 0, 5));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").accept(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(header().string("Vary", "Accept"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(content().contentType(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(header().string("ETag", "\"4-bin\""))
+                .andExpect(header().string("Vary", "Accept"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123")
+                        .header("Accept", TaskBinaryCodec.MEDIA_TYPE + ", application/json;q=0.5"))
+                .andExpect(content().contentType(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(header().string("ETag", "\"4-bin\""));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").param("fields", "title")
+                        .header("Accept", "application/json, " + TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"4\""));
+
+        // A JSON tag must not revalidate a binary request, and the other way round
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").accept(TaskBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"4\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").accept(TaskBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"4-bin\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", "test-id-123").header("If-None-Match", "\"4-bin\""))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5).accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(header().string("ETag", "\"list-7f-42-bin\""))
+                .andExpect(header().string("Vary", "Accept"));
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5).accept(TaskBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"list-7f-42\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 5).header("If-None-Match", "\"list-7f-42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"));
+
+        // Either tag names the same version for a conditional write
+        mockMvc.perform(delete("/api/v1/tasks/{id}", "test-id-123").header("If-Match", "\"4-bin\""))
+                .andExpect(status().isNoContent());
+        verify(taskService).deleteTaskById("test-id-123", 4L);
+    }
+
     @Test
     void getAllTasksShouldReturnBadRequestWhenInvalidPageOrSize() throws Exception {
-        when(taskService.getAllTasks(-1, 0))
+        when(taskService.getAllTasks(eq(-1), eq(0), any(TaskFilter.class), any(TaskFields.class)))
                 .thenThrow(new InvalidPageOrSizeException("Page must be >= 0 and size must be > 0"));
 
         mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", -1, 0))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void getAllTasksShouldPassParsedFiltersToService() throws Exception {
+        PaginatedTaskResponseDTO paginatedResponse = new PaginatedTaskResponseDTO(
+                Arrays.asList(taskResponseDTO), false, 1L, 0, 5);
+        when(taskService.getAllTasks(eq(0), eq(5), argThat(filter -> filter.getStatuses().size() == 2
+                && filter.getDueFrom().equals(LocalDate.of(2030, 1, 1)) && filter.getDueTo() == null), any(TaskFields.class)))
+                .thenReturn(paginatedResponse);
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5)
+                        .param("status", "pending", "DONE")
+                        .param("dueFrom", "2030-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void getAllTasksShouldReturnBadRequestWhenStatusFilterIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 5).param("status", "ARCHIVED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_STATUS"));
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 5).param("dueTo", "tomorrow"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_DATE"));
+    }
+
+    @Test
+    void getTasksAfterCursorShouldReturnTasksAndNextCursor() throws Exception {
+        CursorTaskResponseDTO cursorResponse = new CursorTaskResponseDTO(
+                Arrays.asList(taskResponseDTO), true, "next-cursor", 1);
+
+        when(taskService.getTasksAfterCursor(eq("current-cursor"), eq(1), any(TaskFilter.class), any(TaskFields.class))).thenReturn(cursorResponse);
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 1).param("cursor", "current-cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    void getTasksAfterCursorShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        when(taskService.getTasksAfterCursor(eq("bad"), eq(5), any(TaskFilter.class), any(TaskFields.class))).thenThrow(new InvalidCursorException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 5).param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    void searchTasksShouldReturnRankedTasks() throws Exception {
+        when(taskService.searchTasks("test", 20)).thenReturn(new SearchTaskResponseDTO(Arrays.asList(taskResponseDTO), 1, "test"));
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value("test-id-123"))
+                .andExpect(jsonPath("$.totalHits").value(1))
+                .andExpect(jsonPath("$.query").value("test"));
+    }
+
+    @Test
+    void searchTasksShouldReturnBadRequestWhenQueryIsBlank() throws Exception {
+        when(taskService.searchTasks(" ", 5)).thenThrow(new InvalidQueryException("Query is required"));
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", " ").param("limit", "5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_QUERY"));
+    }
+
+    @Test
+    void getCacheStatsShouldReturnCounters() throws Exception {
+        when(taskService.getCacheStats()).thenReturn(new CacheStatsDTO(7, 3, 1, 2));
+
+        mockMvc.perform(get("/api/v1/tasks/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount").value(7))
+                .andExpect(jsonPath("$.missCount").value(3))
+                .andExpect(jsonPath("$.evictionCount").value(1))
+                .andExpect(jsonPath("$.size").value(2));
+    }
+
+    @Test
+    void getPurgeStatsShouldReturnProgress() throws Exception {
+        when(taskPurgeService.stats()).thenReturn(new PurgeStatsDTO(true, null, null, 1500, 42000));
+
+        mockMvc.perform(get("/api/v1/tasks/purge/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(true))
+                .andExpect(jsonPath("$.runPurged").value(1500))
+                .andExpect(jsonPath("$.totalPurged").value(42000));
+    }
+
+    @Test
+    void exportTasksShouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            java.io.OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":\"a\"}\n{\"id\":\"b\"}\n".getBytes());
+            return null;
+        }).when(taskExportService).exportTasks(any(), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/export").param("status", "DONE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":\"a\"}\n{\"id\":\"b\"}\n"));
+    }
+
+    @Test
+    void exportTasksShouldReturnBadRequestWhenStatusFilterIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/export").param("status", "CLOSED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_STATUS"));
+    }
+
+    @Test
+    void importTasksShouldRouteByContentType() throws Exception {
+        when(taskImportService.importNdjson(any())).thenReturn(new ImportReportDTO(2, 2, 0, true, Arrays.asList(), 10));
+        when(taskImportService.importCsv(any())).thenReturn(new ImportReportDTO(3, 2, 1, true, Arrays.asList(), 10));
+
+        mockMvc.perform(post("/api/v1/tasks/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{}\n{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rowsPerSecond").value(200));
+        mockMvc.perform(post("/api/v1/tasks/import")
+                .contentType("text/csv")
+                .content("title,due_date\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(1));
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.taskmanagerapp.integrationtests;
+
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.enums.IngestState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// POST /api/v1/tasks with task.ingest.async on. The writer commits on its own thread, so unlike IntegrationTests
+// nothing here runs in a rolled back test transaction
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"task.ingest.async=true", "spring.datasource.url=jdbc:h2:mem:asyncingest"})
+public class AsyncIngestIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private IngestState awaitStored(String statusUrl) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            MvcResult result = mockMvc.perform(get(statusUrl)).andExpect(status().isOk()).andReturn();
+            IngestState state = IngestState.valueOf(objectMapper.readTree(result.getResponse().getContentAsString()).get("state").asText());
+            if (state != IngestState.QUEUED || System.nanoTime() > deadline) {
+                return state;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void asyncCreateShouldAcceptThenStoreTheTask() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle("Spike Task");
+        request.setDescription("Written behind");
+        request.setDueDate(LocalDate.now().plusDays(2).toString());
+
+        MvcResult accepted = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("QUEUED"))
+                .andReturn();
+        String id = objectMapper.readTree(accepted.getResponse().getContentAsString()).get("id").asText();
+        String statusUrl = accepted.getResponse().getHeader("Location");
+        Assertions.assertEquals("/api/v1/tasks/ingest/" + id, statusUrl);
+
+        // Readable right away, from the pending buffer or the table
+        mockMvc.perform(get("/api/v1/tasks/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Spike Task"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        Assertions.assertEquals(IngestState.STORED, awaitStored(statusUrl));
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "spike"))
+                .andExpect(jsonPath("$.tasks[0].id").value(id));
+        mockMvc.perform(get("/api/v1/tasks/{id}", id))
+                .andExpect(jsonPath("$.description").value("Written behind"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        request.setTitle("");
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_TITLE"));
+        mockMvc.perform(get("/api/v1/tasks/ingest/{id}", "unknown"))
+                .andExpect(status().isNotFound());
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus")).andReturn().getResponse().getContentAsString();
+        Assertions.assertTrue(metrics.contains("task_ingest_queue_depth "));
+        Assertions.assertTrue(metrics.contains("task_ingest_lag_seconds "));
+        Assertions.assertTrue(metrics.contains("task_ingest_stored_total "));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanagerapp.integrationtests;
+
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.repositories.InMemoryTaskRepository;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs every IntegrationTests case again against the in-memory store
+@TestPropertySource(properties = {"task.store=memory", "spring.datasource.url=jdbc:h2:mem:memorystore"})
+public class InMemoryStoreIntegrationTests extends IntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // The test transaction doesn't cover this store, so each test starts from an empty one
+    @AfterEach
+    void clearStore() {
+        ((InMemoryTaskRepository) taskRepository).clear();
+    }
+
+    @Test
+    void repositoryShouldBeTheInMemoryStore() {
+        Assertions.assertInstanceOf(InMemoryTaskRepository.class, taskRepository);
+    }
+
+    // Same endpoint, but there is no SQL to time
+    @Test
+    @Override
+    void metricsEndpointIntegrationTest() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle("Metrics Task");
+        request.setDueDate(LocalDate.now().plusDays(1).toString());
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Assertions.assertTrue(metrics.contains("task_service_seconds_bucket{operation=\"save\",le=\"0.1\"}"));
+        Assertions.assertFalse(metrics.contains("task_sql_seconds_count{statement=\"save_task\"}"));
+        Assertions.assertTrue(metrics.contains("cache_gets_total{cache=\"task\""));
+    }
+}
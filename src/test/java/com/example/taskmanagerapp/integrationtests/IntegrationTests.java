@@ -1,12 +1,20 @@
 package com.example.taskmanagerapp.integrationtests;
 
+import com.example.taskmanagerapp.codec.TaskBinaryCodec;
+import com.example.taskmanagerapp.config.BulkheadDataSource;
+import com.example.taskmanagerapp.dto.BulkTaskRequestDTO;
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
+import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
 import com.example.taskmanagerapp.dto.TaskRequestDTO;
 import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.example.taskmanagerapp.services.TaskExportService;
+import com.example.taskmanagerapp.util.TaskUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -15,12 +23,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @Transactional
 public class IntegrationTests {
@@ -31,6 +46,12 @@ public class IntegrationTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private DataSource dataSource;
+
     @Test
     void taskFullLifecycleIntegrationTest() throws Exception {
 //       STEP 1: CREATE Task
@@ -38,7 +59,7 @@ public class IntegrationTests {
         createRequest.setTitle("Integration Test Task");
         createRequest.setDescription("Testing full workflow");
         createRequest.setStatus("PENDING");
-        createRequest.setDueDate("2026-06-30"); // Future date
+        createRequest.setDueDate(LocalDate.now().plusMonths(1).toString());
 
         MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -68,7 +89,7 @@ public class IntegrationTests {
         updateRequest.setTitle("Updated Integration Task");
         updateRequest.setDescription("Updated description for testing");
         updateRequest.setStatus("IN_PROGRESS");
-        updateRequest.setDueDate("2026-07-15"); // Future date
+        updateRequest.setDueDate(LocalDate.now().plusMonths(2).toString());
 
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -91,7 +112,7 @@ public class IntegrationTests {
         secondTaskRequest.setTitle("Second Task");
         secondTaskRequest.setDescription("Testing pagination");
         secondTaskRequest.setStatus("DONE");
-        secondTaskRequest.setDueDate("2026-08-10");
+        secondTaskRequest.setDueDate(LocalDate.now().plusMonths(3).toString());
 
         MvcResult secondCreateResult = mockMvc.perform(post("/api/v1/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -165,7 +186,7 @@ public class IntegrationTests {
         invalidTitleRequest.setTitle(""); // Empty title
         invalidTitleRequest.setDescription("Test description");
         invalidTitleRequest.setStatus("PENDING");
-        invalidTitleRequest.setDueDate("2026-06-30");
+        invalidTitleRequest.setDueDate(LocalDate.now().plusMonths(1).toString());
 
         mockMvc.perform(post("/api/v1/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -190,7 +211,7 @@ public class IntegrationTests {
         validRequest.setTitle("Valid Task");
         validRequest.setDescription("Valid description");
         validRequest.setStatus("PENDING");
-        validRequest.setDueDate("2026-06-30");
+        validRequest.setDueDate(LocalDate.now().plusMonths(1).toString());
 
         MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -207,13 +228,22 @@ public class IntegrationTests {
         invalidStatusUpdate.setTitle("Updated Task");
         invalidStatusUpdate.setDescription("Updated description");
         invalidStatusUpdate.setStatus("INVALID_STATUS");
-        invalidStatusUpdate.setDueDate("2026-07-15");
+        invalidStatusUpdate.setDueDate(LocalDate.now().plusMonths(2).toString());
 
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(invalidStatusUpdate)))
                 .andExpect(status().isBadRequest());
 
+//        Every store rejects a title longer than the column the same way
+        invalidStatusUpdate.setStatus("DONE");
+        invalidStatusUpdate.setTitle("a".repeat(101));
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalidStatusUpdate)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_TITLE"));
+
 //      Clean up by deleting the created task
         mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
                 .andExpect(status().isNoContent());
@@ -230,7 +260,7 @@ public class IntegrationTests {
         updateRequest.setTitle("Updated Task");
         updateRequest.setDescription("Updated description");
         updateRequest.setStatus("IN_PROGRESS");
-        updateRequest.setDueDate("2026-06-30");
+        updateRequest.setDueDate(LocalDate.now().plusMonths(1).toString());
 
         mockMvc.perform(put("/api/v1/tasks/{id}", "non-existent-id")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -250,7 +280,7 @@ public class IntegrationTests {
             taskRequest.setTitle("Task " + i);
             taskRequest.setDescription("Description for task " + i);
             taskRequest.setStatus("PENDING");
-            taskRequest.setDueDate("2026-0" + (i % 9 + 1) + "-15");
+            taskRequest.setDueDate(LocalDate.now().plusMonths(i % 9 + 1).toString());
 
             mockMvc.perform(post("/api/v1/tasks")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -304,4 +334,593 @@ public class IntegrationTests {
         mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 0))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void cursorPaginationIntegrationTest() throws Exception {
+//      Create tasks sharing due dates so the id tie-breaker is exercised
+        for (int i = 1; i <= 5; i++) {
+            TaskRequestDTO taskRequest = new TaskRequestDTO();
+            taskRequest.setTitle("Cursor Task " + i);
+            taskRequest.setStatus("PENDING");
+            taskRequest.setDueDate(LocalDate.now().plusDays(i % 2 + 1).toString());
+
+            mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest)))
+                    .andExpect(status().isCreated());
+        }
+
+//      Walk every page and check no task is repeated or skipped
+        Set<String> seenIds = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 2)
+                    .param("cursor", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            for (JsonNode task : body.get("tasks")) {
+                Assertions.assertTrue(seenIds.add(task.get("id").asText()), "Task repeated across pages");
+            }
+            cursor = body.get("hasMore").asBoolean() ? body.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        Assertions.assertEquals(5, seenIds.size());
+        Assertions.assertEquals(3, pages);
+
+//      Test Invalid Cursor
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 2).param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void filteredListingIntegrationTest() throws Exception {
+        String[] statuses = {"PENDING", "DONE", "DONE", "IN_PROGRESS", "DONE"};
+        for (int i = 0; i < statuses.length; i++) {
+            TaskRequestDTO taskRequest = new TaskRequestDTO();
+            taskRequest.setTitle("Filtered Task " + i);
+            taskRequest.setStatus(statuses[i]);
+            taskRequest.setDueDate(LocalDate.now().plusDays(i + 1).toString());
+            mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest)))
+                    .andExpect(status().isCreated());
+        }
+        String dueTo = LocalDate.now().plusDays(3).toString();
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10)
+                .param("status", "done")
+                .param("dueTo", dueTo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.tasks[0].title").value("Filtered Task 1"))
+                .andExpect(jsonPath("$.tasks[1].title").value("Filtered Task 2"));
+
+//      Cursor pages keep the filter as long as the client resends it
+        MvcResult first = mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 2).param("status", "DONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+        mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 2).param("status", "DONE").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value("Filtered Task 4"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void searchIntegrationTest() throws Exception {
+        String[][] tasks = {
+                {"Quarterly zephyr report", "Numbers for the board"},
+                {"Zephyr budget", "Plan the zephyr rollout"},
+                {"Unrelated chore", "Nothing to see"}};
+        List<String> ids = new ArrayList<>();
+        for (String[] task : tasks) {
+            TaskRequestDTO taskRequest = new TaskRequestDTO();
+            taskRequest.setTitle(task[0]);
+            taskRequest.setDescription(task[1]);
+            taskRequest.setStatus("PENDING");
+            taskRequest.setDueDate(LocalDate.now().plusDays(1).toString());
+            MvcResult result = mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            ids.add(objectMapper.readValue(result.getResponse().getContentAsString(), TaskResponseDTO.class).getId());
+        }
+
+//      More occurrences rank higher
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "ZEPHYR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalHits").value(2))
+                .andExpect(jsonPath("$.tasks[0].id").value(ids.get(1)))
+                .andExpect(jsonPath("$.tasks[1].id").value(ids.get(0)));
+
+//      Updates replace the indexed text and deletes remove it
+        TaskRequestDTO update = new TaskRequestDTO();
+        update.setTitle("Quarterly report");
+        update.setStatus("PENDING");
+        update.setDueDate(LocalDate.now().plusDays(1).toString());
+        mockMvc.perform(put("/api/v1/tasks/{id}", ids.get(0))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", ids.get(1)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "zephyr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalHits").value(0));
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "quarterly board"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalHits").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value("Quarterly report"));
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_QUERY"));
+    }
+
+    @Test
+    void liveTaskCountIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("Counted Task");
+        taskRequest.setStatus("PENDING");
+        taskRequest.setDueDate(LocalDate.now().plusDays(1).toString());
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class).getId();
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10))
+                .andExpect(jsonPath("$.total").value(1));
+
+//      Deleting an already deleted task must not decrement the count again
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10))
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void conditionalRequestsIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("Versioned Task");
+        taskRequest.setStatus("PENDING");
+        taskRequest.setDueDate(LocalDate.now().plusDays(1).toString());
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(1))
+                .andReturn();
+        String taskId = objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class).getId();
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).header("If-None-Match", "\"1\""))
+                .andExpect(status().isNotModified());
+        String listETag = mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10).header("If-None-Match", listETag))
+                .andExpect(status().isNotModified());
+
+//      Only the first of two writers holding version 1 gets through
+        taskRequest.setTitle("First Writer");
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId).header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+        taskRequest.setTitle("Second Writer");
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId).header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header("If-Match", "\"1\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).header("If-None-Match", "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("First Writer"));
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10).header("If-None-Match", listETag))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header("If-Match", "\"2\""))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header("If-Match", "\"2\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchTaskIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("Patched Task");
+        taskRequest.setDescription("Kept description");
+        taskRequest.setStatus("PENDING");
+        taskRequest.setDueDate(LocalDate.now().plusDays(2).toString());
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class).getId();
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.title").value("Patched Task"))
+                .andExpect(jsonPath("$.description").value("Kept description"))
+                .andExpect(jsonPath("$.version").value(2));
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId).header("If-Match", "\"2\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"description\":null,\"title\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(jsonPath("$.version").value(3));
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"due_date\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_DATE"));
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId).header("If-Match", "\"2\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/v1/tasks/{id}", "missing-id")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void sparseFieldsetIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("Board Task");
+        taskRequest.setDescription("Only on the detail view");
+        taskRequest.setStatus("IN_PROGRESS");
+        taskRequest.setDueDate(LocalDate.now().plusDays(4).toString());
+        MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class).getId();
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10).param("fields", "id,title,status,dueDate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value("Board Task"))
+                .andExpect(jsonPath("$.tasks[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.tasks[0].dueDate").exists())
+                .andExpect(jsonPath("$.tasks[0].description").doesNotExist())
+                .andExpect(jsonPath("$.tasks[0].version").doesNotExist());
+        MvcResult cursorPage = mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 10).param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value(taskId))
+                .andExpect(jsonPath("$.tasks[0].title").doesNotExist())
+                .andReturn();
+        Assertions.assertFalse(cursorPage.getResponse().getContentAsString().contains("Only on the detail view"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).param("fields", "description"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(content().json("{\"description\":\"Only on the detail view\"}", true));
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(jsonPath("$.title").value("Board Task"))
+                .andExpect(jsonPath("$.description").value("Only on the detail view"));
+    }
+
+    @Test
+    void binaryEncodingIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("Binary Task");
+        taskRequest.setDescription("Décrit en binaire");
+        taskRequest.setStatus("DONE");
+        taskRequest.setDueDate(LocalDate.now().plusDays(6).toString());
+        MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        TaskResponseDTO created = objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class);
+
+        MvcResult page = mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10).accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskBinaryCodec.MEDIA_TYPE))
+                .andReturn();
+        PaginatedTaskResponseDTO decodedPage = TaskBinaryCodec.decodePage(page.getResponse().getContentAsByteArray());
+        Assertions.assertEquals(1, decodedPage.getTotal());
+        TaskResponseDTO decoded = decodedPage.getTasks().get(0);
+        Assertions.assertEquals(created.getId(), decoded.getId());
+        Assertions.assertEquals("Décrit en binaire", decoded.getDescription());
+        Assertions.assertEquals("DONE", decoded.getStatus());
+        Assertions.assertEquals(created.getDueDate(), decoded.getDueDate());
+        Assertions.assertEquals(created.getVersion(), decoded.getVersion());
+
+        MvcResult cursorPage = mockMvc.perform(get("/api/v1/tasks/cursor/size/{size}", 10).param("fields", "id,title")
+                        .accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andReturn();
+        CursorTaskResponseDTO decodedCursor = TaskBinaryCodec.decodeCursorPage(cursorPage.getResponse().getContentAsByteArray());
+        Assertions.assertEquals("Binary Task", decodedCursor.getTasks().get(0).getTitle());
+        Assertions.assertNull(decodedCursor.getTasks().get(0).getDescription());
+        mockMvc.perform(get("/api/v1/tasks/{id}", created.getId()).accept(TaskBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-bin\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().contentType(TaskBinaryCodec.MEDIA_TYPE));
+        // The JSON tag for the same version doesn't revalidate the binary encoding
+        mockMvc.perform(get("/api/v1/tasks/{id}", created.getId()).accept(TaskBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"1\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks/{id}", created.getId()).accept(TaskBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"1-bin\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void renderedTaskCacheIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("Hot Task");
+        taskRequest.setDescription("Read by every dashboard");
+        taskRequest.setDueDate(LocalDate.now().plusDays(3).toString());
+        MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class).getId();
+
+        byte[] first = mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cached = mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andReturn().getResponse().getContentAsByteArray();
+        // Every field named explicitly takes the message converter path, which must write the same bytes
+        byte[] converted = mockMvc.perform(get("/api/v1/tasks/{id}", taskId).param("fields", "id,title,description,status,dueDate,version"))
+                .andReturn().getResponse().getContentAsByteArray();
+        Assertions.assertArrayEquals(first, cached);
+        Assertions.assertArrayEquals(first, converted);
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).header("If-None-Match", "\"1\""))
+                .andExpect(status().isNotModified());
+
+        taskRequest.setTitle("Hot Task Renamed");
+        taskRequest.setStatus("IN_PROGRESS");
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.title").value("Hot Task Renamed"));
+
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createTaskShouldReturnDatabaseDefaultsIntegrationTest() throws Exception {
+        TaskRequestDTO taskRequest = new TaskRequestDTO();
+        taskRequest.setTitle("No Status Task");
+        taskRequest.setDueDate(LocalDate.now().plusDays(3).toString());
+
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.dueDate").value(LocalDate.now().plusDays(3).toString()));
+    }
+
+    @Test
+    void batchCreateIntegrationTest() throws Exception {
+        List<TaskRequestDTO> batch = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            TaskRequestDTO taskRequest = new TaskRequestDTO();
+            taskRequest.setTitle(i == 3 ? "" : "Batch Task " + i);
+            taskRequest.setDueDate(LocalDate.now().plusDays(i).toString());
+            batch.add(taskRequest);
+        }
+
+        MvcResult result = mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[2].code").value("INVALID_TITLE"))
+                .andReturn();
+
+        String firstId = objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("results").get(0).get("id").asText();
+        mockMvc.perform(get("/api/v1/tasks/{id}", firstId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Batch Task 1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10))
+                .andExpect(jsonPath("$.total").value(3));
+
+//      Empty batch is rejected
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_BATCH"));
+    }
+
+    @Test
+    void bulkStatusAndDeleteIntegrationTest() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            TaskRequestDTO taskRequest = new TaskRequestDTO();
+            taskRequest.setTitle("Sprint Task " + i);
+            taskRequest.setStatus("IN_PROGRESS");
+            taskRequest.setDueDate(LocalDate.now().plusDays(i).toString());
+            MvcResult createResult = mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            ids.add(objectMapper.readValue(createResult.getResponse().getContentAsString(), TaskResponseDTO.class).getId());
+        }
+
+//      Mark the first three DONE; an unknown id is ignored
+        BulkTaskRequestDTO doneRequest = new BulkTaskRequestDTO();
+        doneRequest.setIds(List.of(ids.get(0), ids.get(1), ids.get(2), "non-existent-id"));
+        doneRequest.setStatus("DONE");
+        mockMvc.perform(put("/api/v1/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(doneRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(3));
+        mockMvc.perform(get("/api/v1/tasks/{id}", ids.get(0)))
+                .andExpect(jsonPath("$.status").value("DONE"));
+
+//      Soft-delete DONE tasks due before the third one
+        mockMvc.perform(delete("/api/v1/tasks/done").param("dueBefore", LocalDate.now().plusDays(3).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+        mockMvc.perform(get("/api/v1/tasks/{id}", ids.get(0)))
+                .andExpect(status().isNotFound());
+
+//      Soft-delete the rest by id; already deleted ids are not counted again
+        BulkTaskRequestDTO deleteRequest = new BulkTaskRequestDTO();
+        deleteRequest.setIds(ids);
+        mockMvc.perform(post("/api/v1/tasks/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(deleteRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10))
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void exportTasksIntegrationTest() throws Exception {
+        String[] statuses = {"PENDING", "DONE", "DONE"};
+        for (int i = 0; i < statuses.length; i++) {
+            TaskRequestDTO taskRequest = new TaskRequestDTO();
+            taskRequest.setTitle("Export Task " + i);
+            taskRequest.setStatus(statuses[i]);
+            taskRequest.setDueDate(LocalDate.now().plusDays(i + 1).toString());
+            mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest)))
+                    .andExpect(status().isCreated());
+        }
+
+//      Export runs on the test's thread here so it sees the uncommitted test data
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.exportTasks(TaskUtils.toTaskFilter(List.of("done"), null,
+                LocalDate.now().plusDays(2).toString()), out);
+
+        String[] lines = out.toString().split("\n");
+        Assertions.assertEquals(1, lines.length);
+        Assertions.assertTrue(out.toString().endsWith("\n"));
+        JsonNode task = objectMapper.readTree(lines[0]);
+        Assertions.assertEquals("Export Task 1", task.get("title").asText());
+        Assertions.assertEquals("DONE", task.get("status").asText());
+
+        out.reset();
+        taskExportService.exportTasks(TaskUtils.toTaskFilter(null, null, null), out);
+        Assertions.assertEquals(3, out.toString().split("\n").length);
+        Assertions.assertFalse(out.toString().contains("\n "), "Lines must start directly with the JSON object");
+    }
+
+    @Test
+    void importTasksIntegrationTest() throws Exception {
+        String dueDate = LocalDate.now().plusDays(5).toString();
+        String ndjson = "{\"title\":\"Imported 1\",\"due_date\":\"" + dueDate + "\"}\n"
+                + "{\"title\":\"\",\"due_date\":\"" + dueDate + "\"}\n"
+                + "{\"title\":\"Imported 2\",\"status\":\"DONE\",\"due_date\":\"" + dueDate + "\"}\n";
+
+        mockMvc.perform(post("/api/v1/tasks/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(3))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].code").value("INVALID_TITLE"));
+
+        String csv = "title,description,status,due_date\n"
+                + "CSV Task,\"Quoted, with comma\",IN_PROGRESS," + dueDate + "\n"
+                + "Bad Status,,CLOSED," + dueDate + "\n";
+
+        mockMvc.perform(post("/api/v1/tasks/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.errors[0].code").value("INVALID_STATUS"));
+
+        mockMvc.perform(get("/api/v1/tasks/page/{page}/size/{size}", 0, 10))
+                .andExpect(jsonPath("$.total").value(3));
+
+//      Malformed input stops the import but keeps what was already read
+        mockMvc.perform(post("/api/v1/tasks/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"title\":\"Before Break\",\"due_date\":\"" + dueDate + "\"}\n{\"title\": oops}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(false))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.errors[0].code").value("MALFORMED_RECORD"));
+    }
+
+    @Test
+    void jdbcBulkheadIntegrationTest() {
+        Assertions.assertInstanceOf(BulkheadDataSource.class, dataSource);
+//      The test transaction holds one connection for its whole duration
+        Assertions.assertEquals(9, ((BulkheadDataSource) dataSource).getAvailablePermits());
+    }
+
+    @Test
+    void metricsEndpointIntegrationTest() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle("Metrics Task");
+        request.setDueDate(LocalDate.now().plusDays(1).toString());
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/tasks/{id}", "missing-id"))
+                .andExpect(status().isNotFound());
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Assertions.assertTrue(metrics.contains("task_service_seconds_bucket{operation=\"save\",le=\"0.1\"}"));
+        Assertions.assertTrue(metrics.contains("task_sql_seconds_bucket{statement=\"save_task\",le=\"0.001\"}"));
+        Assertions.assertFalse(metrics.contains("quantile="));
+        Assertions.assertTrue(metrics.contains("task_sql_seconds_count{statement=\"save_task\"}"));
+        Assertions.assertTrue(metrics.contains("task_errors_total{code=\"TASK_NOT_FOUND\"}"));
+        Assertions.assertTrue(metrics.contains("task_jdbc_bulkhead_wait_seconds_count"));
+        Assertions.assertTrue(metrics.contains("hikaricp_connections_acquire_seconds_count"));
+        Assertions.assertTrue(metrics.contains("cache_gets_total{cache=\"task\""));
+    }
 }
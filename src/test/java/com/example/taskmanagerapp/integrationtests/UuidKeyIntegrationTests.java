@@ -0,0 +1,62 @@
+package com.example.taskmanagerapp.integrationtests;
+
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.dto.TaskResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs every IntegrationTests case again with ids stored in a UUID column
+@ActiveProfiles("uuid-keys")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:uuidkeys")
+public class UuidKeyIntegrationTests extends IntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void idColumnShouldBeStoredAsUuid() {
+        String type = jdbcTemplate.queryForObject(
+                "SELECT data_type FROM information_schema.columns WHERE table_name = 'TASK' AND column_name = 'ID'", String.class);
+        Assertions.assertEquals("UUID", type);
+    }
+
+    @Test
+    void createdTaskShouldBeReadableByItsStringId() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle("Uuid keyed task");
+        request.setDueDate(LocalDate.now().plusDays(3).toString());
+
+        String body = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readValue(body, TaskResponseDTO.class).getId();
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id));
+        mockMvc.perform(get("/api/v1/tasks/{id}", id.toUpperCase().replace("-", "")))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanagerapp.mapper;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskRowMapperTest {
+
+    private static final int ROWS = 2000;
+    private static final String SELECT_ALL = "SELECT id, title, description, status, due_date, version FROM task ORDER BY id";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource("jdbc:h2:mem:rowmapper", true));
+        jdbcTemplate.execute("CREATE TABLE task (id VARCHAR(36) PRIMARY KEY, title VARCHAR(100), description TEXT, status VARCHAR(20), due_date DATE, version BIGINT)");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{String.format("id-%05d", i), "Task " + i, "Description " + i, "IN_PROGRESS", LocalDate.of(2030, 1, 1).plusDays(i), i + 1L});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO task VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void mapRowShouldReadEveryColumnIntoTheModel() {
+        List<TaskModel> tasks = jdbcTemplate.query(SELECT_ALL, TaskRowMapper.INSTANCE);
+
+        assertEquals(ROWS, tasks.size());
+        TaskModel first = tasks.get(0);
+        assertEquals("id-00000", first.getId());
+        assertEquals("Task 0", first.getTitle());
+        assertEquals("Description 0", first.getDescription());
+        assertEquals(TaskStatus.IN_PROGRESS, first.getStatus());
+        assertEquals(LocalDate.of(2030, 1, 1), first.getDueDate());
+        assertEquals(1, first.getVersion());
+    }
+
+    @Test
+    void mapRowShouldAllocateLessPerRowThanColumnMapCopy() {
+        long mapperBytes = bytesAllocatedPerRow(() -> jdbcTemplate.query(SELECT_ALL, TaskRowMapper.INSTANCE));
+        long columnMapBytes = bytesAllocatedPerRow(TaskRowMapperTest::selectViaColumnMaps);
+
+        assertTrue(mapperBytes < columnMapBytes,
+                "TaskRowMapper allocated " + mapperBytes + " bytes/row, column map copy " + columnMapBytes + " bytes/row");
+    }
+
+    // The mapping TaskRepository used before TaskRowMapper: a case insensitive map per row copied into the model
+    private static List<TaskModel> selectViaColumnMaps() {
+        List<TaskModel> tasks = new ArrayList<>();
+        for (Map<String, Object> result : jdbcTemplate.queryForList(SELECT_ALL)) {
+            TaskModel task = new TaskModel();
+            task.setId((String) result.get("id"));
+            task.setTitle((String) result.get("title"));
+            task.setDescription((String) result.get("description"));
+            task.setStatus(TaskStatus.valueOf((String) result.get("status")));
+            Object dueDateObj = result.get("due_date");
+            if (dueDateObj instanceof java.sql.Date) {
+                task.setDueDate(((java.sql.Date) dueDateObj).toLocalDate());
+            } else if (dueDateObj instanceof LocalDate) {
+                task.setDueDate((LocalDate) dueDateObj);
+            }
+            task.setVersion((Long) result.get("version"));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static long bytesAllocatedPerRow(Supplier<List<TaskModel>> query) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        // Warm up so class loading and JIT don't count towards either side
+        for (int i = 0; i < 20; i++) {
+            query.get();
+        }
+        int iterations = 20;
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            query.get();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        return (after - before) / ((long) iterations * ROWS);
+    }
+}
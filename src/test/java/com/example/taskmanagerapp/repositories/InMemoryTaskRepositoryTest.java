@@ -0,0 +1,201 @@
+package com.example.taskmanagerapp.repositories;
+
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.util.ETagUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskRepositoryTest {
+
+    private static final int ROWS = 3000;
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    private InMemoryTaskRepository taskRepository;
+    private List<TaskModel> all;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = new InMemoryTaskRepository();
+        all = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            TaskModel task = new TaskModel();
+            task.setId(String.format("id-%05d", i));
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.values()[i % 3]);
+            task.setDueDate(START.plusDays(i % 100));
+            all.add(task);
+        }
+        taskRepository.saveTasks(all);
+        all.sort(Comparator.comparing(TaskModel::getDueDate).thenComparing(TaskModel::getId));
+    }
+
+    private static TaskFilter filter(List<TaskStatus> statuses, LocalDate dueFrom, LocalDate dueTo) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(statuses);
+        filter.setDueFrom(dueFrom);
+        filter.setDueTo(dueTo);
+        return filter;
+    }
+
+    private List<String> expected(TaskFilter filter, int offset, int limit) {
+        return all.stream()
+                .filter(t -> filter.getStatuses() == null || filter.getStatuses().contains(t.getStatus()))
+                .filter(t -> filter.getDueFrom() == null || !t.getDueDate().isBefore(filter.getDueFrom()))
+                .filter(t -> filter.getDueTo() == null || !t.getDueDate().isAfter(filter.getDueTo()))
+                .skip(offset).limit(limit).map(TaskModel::getId).toList();
+    }
+
+    private static List<String> ids(List<TaskModel> tasks) {
+        return tasks.stream().map(TaskModel::getId).toList();
+    }
+
+    @Test
+    void listingsShouldMatchDueDateIdOrderForEveryFilter() {
+        List<TaskFilter> filters = List.of(
+                new TaskFilter(),
+                filter(List.of(TaskStatus.DONE), null, null),
+                filter(null, START.plusDays(5), null),
+                filter(null, null, START.plusDays(5)),
+                filter(List.of(TaskStatus.DONE, TaskStatus.PENDING), START.plusDays(5), START.plusDays(9)),
+                filter(null, START.plusDays(9), START.plusDays(5)));
+
+        for (TaskFilter filter : filters) {
+            assertEquals(expected(filter, 40, 20), ids(taskRepository.selectTasksPaginated(filter, 20, 40)));
+            assertEquals(expected(filter, 0, Integer.MAX_VALUE).size(), taskRepository.countTasks(filter));
+
+            List<String> streamed = new ArrayList<>();
+            taskRepository.streamTasks(filter, 100, task -> streamed.add(task.getId()));
+            assertEquals(expected(filter, 0, Integer.MAX_VALUE), streamed);
+        }
+        assertEquals(ROWS, taskRepository.countAllTasks());
+        assertEquals(expected(new TaskFilter(), 100, 10), ids(taskRepository.selectAllTasksPaginated(10, 100)));
+    }
+
+    @Test
+    void keysetPagesShouldContinueWhereOffsetPagesStop() {
+        TaskFilter filter = filter(List.of(TaskStatus.DONE), START.plusDays(5), START.plusDays(9));
+        List<TaskModel> firstPage = taskRepository.selectTasksPaginated(filter, 20, 0);
+        TaskModel last = firstPage.get(firstPage.size() - 1);
+
+        assertEquals(expected(filter, 20, 20), ids(taskRepository.selectTasksAfter(filter, last.getDueDate(), last.getId(), 20)));
+        assertEquals(ids(taskRepository.selectAllTasksPaginated(5, 0)), ids(taskRepository.selectTasksAfter(null, null, 5)));
+
+        // A cursor before dueFrom starts at dueFrom, a cursor past dueTo returns nothing
+        TaskFilter range = filter(null, START.plusDays(50), START.plusDays(50));
+        assertEquals(expected(range, 0, 5), ids(taskRepository.selectTasksAfter(range, START, "id-00000", 5)));
+        assertTrue(taskRepository.selectTasksAfter(range, START.plusDays(60), "id-00000", 5).isEmpty());
+    }
+
+    @Test
+    void restartedStoreShouldNotRepeatAListETagWhenItsCounterCatchesUp() {
+        InMemoryTaskRepository restarted = new InMemoryTaskRepository();
+        for (int i = 0; restarted.changeCount() < taskRepository.changeCount(); i++) {
+            restarted.saveTask("other-" + i, "Other " + i, null, null, START);
+        }
+
+        assertEquals(taskRepository.changeCount(), restarted.changeCount());
+        assertNotEquals(ETagUtils.listETag(taskRepository.storeEpoch(), taskRepository.changeCount()),
+                ETagUtils.listETag(restarted.storeEpoch(), restarted.changeCount()));
+    }
+
+    @Test
+    void updateShouldMoveTaskInDueDateOrder() {
+        TaskModel updated = taskRepository.updateTask("id-00000", "Moved", null, "DONE", START.plusDays(500));
+
+        assertEquals("Moved", updated.getTitle());
+        List<TaskModel> page = taskRepository.selectTasksPaginated(new TaskFilter(), 1, ROWS - 1);
+        assertEquals("id-00000", page.get(0).getId());
+        assertEquals(ROWS, taskRepository.countAllTasks());
+        assertNull(taskRepository.updateTask("missing", "Title", null, "DONE", START));
+    }
+
+    @Test
+    void taskBeingUpdatedShouldAppearExactlyOnceInEveryListing() throws InterruptedException {
+        TaskModel watched = all.get(ROWS / 2);
+        AtomicBoolean done = new AtomicBoolean();
+        // Alternates between an update that keeps the due date and one that moves the task
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 200_000; i++) {
+                    LocalDate dueDate = i % 4 < 2 ? watched.getDueDate() : watched.getDueDate().plusDays(1);
+                    taskRepository.updateTask(watched.getId(), "Task", null, TaskStatus.values()[i % 3].name(), dueDate);
+                }
+            } finally {
+                done.set(true);
+            }
+        });
+        writer.start();
+
+        int listings = 0;
+        TaskFilter around = filter(null, watched.getDueDate(), watched.getDueDate().plusDays(1));
+        try {
+            while (!done.get()) {
+                List<String> listed = ids(taskRepository.selectTasksPaginated(around, 1000, 0));
+                List<String> streamed = new ArrayList<>();
+                taskRepository.streamTasks(around, 0, task -> streamed.add(task.getId()));
+                assertEquals(1, Collections.frequency(listed, watched.getId()), "listing " + listings);
+                assertEquals(1, Collections.frequency(streamed, watched.getId()), "stream " + listings);
+                listings++;
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+        assertTrue(listings > 0);
+    }
+
+    @Test
+    void returnedTasksShouldNotShareStateWithTheStore() {
+        taskRepository.selectTask("id-00001").setTitle("Changed by caller");
+
+        assertEquals("Task 1", taskRepository.selectTask("id-00001").getTitle());
+    }
+
+    @Test
+    void saveShouldApplyDefaultStatusAndRejectDuplicates() {
+        TaskModel saved = taskRepository.saveTask("new-id", "New", null, null, START);
+        TaskModel duplicate = new TaskModel();
+        duplicate.setId("id-00001");
+        duplicate.setTitle("Duplicate");
+        duplicate.setDueDate(START);
+        TaskModel fresh = new TaskModel();
+        fresh.setId("fresh-id");
+        fresh.setTitle("Fresh");
+        fresh.setDueDate(START);
+
+        assertEquals(TaskStatus.PENDING, saved.getStatus());
+        assertThrows(DuplicateKeyException.class, () -> taskRepository.saveTask("new-id", "Again", null, null, START));
+        assertThrows(DuplicateKeyException.class, () -> taskRepository.saveTasks(List.of(fresh, duplicate)));
+        assertNull(taskRepository.selectTask("fresh-id"));
+    }
+
+    @Test
+    void deletesShouldRemoveTasksFromEveryListing() {
+        assertTrue(taskRepository.deleteTask("id-00003"));
+        assertFalse(taskRepository.deleteTask("id-00003"));
+        assertEquals(2, taskRepository.deleteTasks(List.of("id-00004", "id-00005", "missing")));
+        assertEquals(2, taskRepository.updateTasksStatus(List.of("id-00000", "id-00100"), "DONE"));
+
+        // 30 tasks are due on START, 10 of them DONE plus the 2 just changed; the rest stay
+        int affected = taskRepository.deleteDoneTasksDueBefore(START.plusDays(1));
+
+        assertEquals(12, affected);
+        assertNull(taskRepository.selectTask("id-00100"));
+        assertNotNull(taskRepository.selectTask("id-00300"));
+        assertEquals(ROWS - 15, taskRepository.countAllTasks());
+        assertEquals(ROWS - 15, taskRepository.countTasks(new TaskFilter()));
+        assertEquals(List.of("id-00001"), ids(taskRepository.selectTasks(List.of("id-00001", "id-00003"))));
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.taskmanagerapp.repositories;
+
+import com.example.taskmanagerapp.enums.PurgeMode;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcTaskRepositoryTest {
+
+    private static final int ROWS = 3000;
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static JdbcTaskRepository taskRepository;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource("jdbc:h2:mem:taskrepository", true);
+        ScriptUtils.executeSqlScript(dataSource.getConnection(), new ClassPathResource("schema.sql"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        taskRepository = new JdbcTaskRepository();
+        ReflectionTestUtils.setField(taskRepository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(taskRepository, "taskMetrics", new TaskMetrics(new SimpleMeterRegistry()));
+
+        List<TaskModel> tasks = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            TaskModel task = new TaskModel();
+            task.setId(String.format("id-%05d", i));
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.values()[i % 3]);
+            task.setDueDate(START.plusDays(i % 100));
+            tasks.add(task);
+        }
+        taskRepository.saveTasks(tasks);
+    }
+
+    private static TaskFilter filter(List<TaskStatus> statuses, LocalDate dueFrom, LocalDate dueTo) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(statuses);
+        filter.setDueFrom(dueFrom);
+        filter.setDueTo(dueTo);
+        return filter;
+    }
+
+    // Runs the listing query for a 20-row page, after a cursor on the first task due START + 10 when afterCursor is set
+    private static String explain(TaskFilter filter, boolean afterCursor) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = taskRepository.listingQuery(taskRepository.SELECT_TASKS, filter,
+                afterCursor ? START.plusDays(10) : null, afterCursor ? "id-00010" : null, 20, args);
+        sql.append(" LIMIT 20");
+        return explainAnalyze(sql.toString(), args.toArray());
+    }
+
+    private static String explainAnalyze(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class, args);
+    }
+
+    // Rows read from every table and index in the plan
+    private static long scanCount(String plan) {
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        long rows = 0;
+        while (matcher.find()) {
+            rows += Long.parseLong(matcher.group(1));
+        }
+        return rows;
+    }
+
+    private static List<String> ids(List<TaskModel> tasks) {
+        return tasks.stream().map(TaskModel::getId).toList();
+    }
+
+    @Test
+    void unfilteredListingsShouldReadOnlyThePageInIndexOrder() {
+        List<String> plans = List.of(
+                explainAnalyze(taskRepository.SELECT_FIRST_TASKS, 20),
+                explainAnalyze(taskRepository.SELECT_ALL_TASKS_PAGINATED, 20, 0),
+                explainAnalyze(taskRepository.SELECT_TASKS_AFTER, START.plusDays(50), "id-00050", 20));
+
+        for (String plan : plans) {
+            assertTrue(plan.contains("index sorted"), plan);
+            assertTrue(scanCount(plan) <= 21, plan);
+        }
+    }
+
+    @Test
+    void filteredListingQueriesShouldReadOnlyThePageInIndexOrder() {
+        List<TaskFilter> filters = List.of(
+                filter(List.of(TaskStatus.DONE), null, null),
+                filter(List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), null, null),
+                filter(null, START.plusDays(5), null),
+                filter(null, null, START.plusDays(5)),
+                filter(null, START.plusDays(5), START.plusDays(9)),
+                filter(List.of(TaskStatus.DONE), START.plusDays(5), START.plusDays(9)),
+                filter(List.of(TaskStatus.DONE, TaskStatus.PENDING), START.plusDays(5), null));
+
+        for (TaskFilter filter : filters) {
+            // Several statuses are one seek per status
+            int seeks = filter.getStatuses() == null ? 1 : filter.getStatuses().size();
+            for (boolean afterCursor : new boolean[]{false, true}) {
+                String plan = explain(filter, afterCursor);
+                assertFalse(plan.contains("tableScan"), plan);
+                assertTrue(plan.contains("IDX_TASK_LIVE_"), plan);
+                assertEquals(seeks, plan.split("index sorted", -1).length - 1, plan);
+                assertTrue(scanCount(plan) <= seeks * 21L, plan);
+            }
+        }
+    }
+
+    @Test
+    void filteredListingShouldReturnOnlyMatchingTasksInKeysetOrder() {
+        TaskFilter filter = filter(List.of(TaskStatus.DONE), START.plusDays(5), START.plusDays(9));
+
+        List<TaskModel> firstPage = taskRepository.selectTasksPaginated(filter, 20, 0);
+        TaskModel last = firstPage.get(firstPage.size() - 1);
+        List<TaskModel> nextPage = taskRepository.selectTasksAfter(filter, last.getDueDate(), last.getId(), 20);
+
+        assertEquals(20, firstPage.size());
+        assertEquals(ids(taskRepository.selectTasksPaginated(filter, 20, 20)), ids(nextPage));
+        for (TaskModel task : firstPage) {
+            assertEquals(TaskStatus.DONE, task.getStatus());
+            assertFalse(task.getDueDate().isBefore(START.plusDays(5)) || task.getDueDate().isAfter(START.plusDays(9)));
+        }
+        // 5 due dates x 30 tasks per date, a third of them DONE
+        assertEquals(50, taskRepository.countTasks(filter));
+    }
+
+    @Test
+    void multiStatusListingShouldMergeThePerStatusSeeksInKeysetOrder() {
+        TaskFilter filter = filter(List.of(TaskStatus.DONE, TaskStatus.PENDING, TaskStatus.DONE), START.plusDays(5), null);
+        List<String> expected = jdbcTemplate.queryForList("SELECT id FROM task WHERE is_deleted = false AND status IN ('DONE', 'PENDING')"
+                + " AND due_date >= ? ORDER BY due_date, id LIMIT 60", String.class, START.plusDays(5));
+
+        List<TaskModel> firstPage = taskRepository.selectTasksPaginated(filter, 30, 0);
+        TaskModel last = firstPage.get(firstPage.size() - 1);
+        List<TaskModel> nextPage = taskRepository.selectTasksAfter(filter, last.getDueDate(), last.getId(), 30);
+
+        assertEquals(expected.subList(0, 30), ids(firstPage));
+        assertEquals(expected.subList(30, 60), ids(nextPage));
+        assertEquals(expected.subList(30, 60), ids(taskRepository.selectTasksPaginated(filter, 30, 30)));
+    }
+
+    // Soft-deletes count tasks due far after the listing fixtures, and backdates the first backdated of them
+    private static List<String> tombstones(String prefix, int count, int backdated) {
+        List<TaskModel> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskModel task = new TaskModel();
+            task.setId(String.format("%s-%03d", prefix, i));
+            task.setTitle("Tombstone " + i);
+            task.setStatus(TaskStatus.DONE);
+            task.setDueDate(START.plusDays(1000));
+            tasks.add(task);
+        }
+        taskRepository.saveTasks(tasks);
+        List<String> ids = ids(tasks);
+        taskRepository.deleteTasks(ids);
+        jdbcTemplate.update("UPDATE task SET deleted_at = DATEADD(DAY, -30, LOCALTIMESTAMP) WHERE id = ANY(?)",
+                (Object) ids.subList(0, backdated).toArray());
+        return ids;
+    }
+
+    private static long rows(String idPrefix) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id LIKE ?", Long.class, idPrefix + "%");
+    }
+
+    @Test
+    void projectedReadsShouldSkipUnrequestedColumnsAndKeepTheKeysetOrder() {
+        TaskFields board = new TaskFields(TaskFields.ID | TaskFields.TITLE | TaskFields.STATUS | TaskFields.DUE_DATE);
+        taskRepository.saveTask("projected-1", "Projected", "Not read", "DONE", START);
+
+        TaskModel task = taskRepository.selectTask("projected-1", board);
+        assertEquals("Projected", task.getTitle());
+        assertEquals(TaskStatus.DONE, task.getStatus());
+        assertNull(task.getDescription());
+        assertEquals(1, task.getVersion());
+
+        TaskModel idOnly = taskRepository.selectTask("projected-1", new TaskFields(TaskFields.ID));
+        assertNull(idOnly.getTitle());
+        assertNull(idOnly.getStatus());
+        assertEquals(START, idOnly.getDueDate());
+
+        TaskFilter none = new TaskFilter();
+        assertEquals(ids(taskRepository.selectTasksPaginated(none, 50, 100)),
+                ids(taskRepository.selectTasksPaginated(none, board, 50, 100)));
+        assertEquals(ids(taskRepository.selectTasksAfter(none, START.plusDays(3), "id-00100", 50)),
+                ids(taskRepository.selectTasksAfter(none, board, START.plusDays(3), "id-00100", 50)));
+        assertFalse(JdbcTaskRepository.project(taskRepository.SELECT_TASKS, board).contains("description"));
+    }
+
+    @Test
+    void patchTaskShouldWriteOnlyThePatchedColumnsAndCheckTheVersionWhenGiven() {
+        taskRepository.saveTask("patch-1", "Patched", "Long description", "PENDING", START);
+        long changes = taskRepository.changeCount();
+        TaskPatch status = new TaskPatch();
+        status.setStatus(TaskStatus.DONE);
+
+        TaskModel patched = taskRepository.patchTask("patch-1", status, null);
+
+        assertEquals(TaskStatus.DONE, patched.getStatus());
+        assertEquals("Patched", patched.getTitle());
+        assertEquals("Long description", patched.getDescription());
+        assertEquals(2, patched.getVersion());
+        assertEquals(changes + 1, taskRepository.changeCount());
+
+        TaskPatch clear = new TaskPatch();
+        clear.setDescription(null);
+        clear.setDueDate(START.plusDays(1));
+        assertNull(taskRepository.patchTask("patch-1", clear, 1L));
+        patched = taskRepository.patchTask("patch-1", clear, 2L);
+        assertNull(patched.getDescription());
+        assertEquals(START.plusDays(1), patched.getDueDate());
+        assertEquals(TaskStatus.DONE, patched.getStatus());
+        assertNull(taskRepository.patchTask("missing", clear, null));
+    }
+
+    @Test
+    void purgeDeletedTasksShouldRemoveOnlyTasksDeletedBeforeTheCutoffInBatches() {
+        long live = taskRepository.countAllTasks();
+        tombstones("purge", 30, 20);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+
+        assertEquals(7, taskRepository.purgeDeletedTasks(cutoff, 7));
+        assertEquals(7, taskRepository.purgeDeletedTasks(cutoff, 7));
+        assertEquals(6, taskRepository.purgeDeletedTasks(cutoff, 7));
+        assertEquals(0, taskRepository.purgeDeletedTasks(cutoff, 7));
+
+        assertEquals(10, rows("purge-"));
+        assertEquals(live, taskRepository.countAllTasks());
+    }
+
+    @Test
+    void purgeDeletedTasksShouldMoveRowsToTheArchiveInArchiveMode() {
+        List<String> ids = tombstones("archive", 5, 5);
+        ReflectionTestUtils.setField(taskRepository, "purgeMode", PurgeMode.ARCHIVE);
+        try {
+            assertEquals(5, taskRepository.purgeDeletedTasks(LocalDateTime.now().minusDays(7), 100));
+        } finally {
+            ReflectionTestUtils.setField(taskRepository, "purgeMode", PurgeMode.DELETE);
+        }
+
+        assertEquals(0, rows("archive-"));
+        assertEquals(ids, jdbcTemplate.queryForList("SELECT id FROM task_archive WHERE id LIKE 'archive-%' ORDER BY id", String.class));
+    }
+
+    @Test
+    void purgeAndLiveListingsShouldEachSeekTheirOwnIndexRangeWhenTombstonesOutnumberLiveRows() {
+        tombstones("bulk", 500, 0);
+        jdbcTemplate.update("UPDATE task SET is_deleted = true, deleted_at = LOCALTIMESTAMP WHERE id < 'id-02000' AND status = 'PENDING'");
+        jdbcTemplate.execute("ANALYZE");
+        try {
+            String purgePlan = jdbcTemplate.queryForObject("EXPLAIN " + taskRepository.PURGE_DELETED, String.class,
+                    LocalDateTime.now(), 500);
+            assertTrue(purgePlan.contains("IDX_TASK_TOMBSTONE_DELETED_AT"), purgePlan);
+
+            String listingPlan = explain(new TaskFilter(), true);
+            assertTrue(listingPlan.contains("IDX_TASK_LIVE_DUE_DATE_ID"), listingPlan);
+        } finally {
+            jdbcTemplate.update("UPDATE task SET is_deleted = false, deleted_at = NULL WHERE id LIKE 'id-%'");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.taskmanagerapp.repositories;
+
+import com.example.taskmanagerapp.enums.FsyncPolicy;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskFilter;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.util.ETagUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalTaskRepositoryTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    @TempDir
+    Path directory;
+
+    private WalTaskRepository taskRepository;
+
+    private WalTaskRepository open() throws IOException {
+        WalTaskRepository repository = new WalTaskRepository();
+        repository.directory = directory;
+        repository.fsyncPolicy = FsyncPolicy.GROUP;
+        repository.fsyncIntervalMillis = 10;
+        repository.segmentSizeMb = 1;
+        repository.snapshotIntervalMillis = 0;
+        repository.open();
+        return repository;
+    }
+
+    private WalTaskRepository reopen() throws IOException {
+        taskRepository.close();
+        taskRepository = open();
+        return taskRepository;
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (taskRepository != null) {
+            taskRepository.close();
+        }
+    }
+
+    private static List<TaskModel> tasks(int from, int count) {
+        List<TaskModel> tasks = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            TaskModel task = new TaskModel();
+            task.setId(String.format("id-%05d", i));
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setStatus(TaskStatus.values()[i % 3]);
+            task.setDueDate(START.plusDays(i % 100));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static List<String> ids(List<TaskModel> tasks) {
+        return tasks.stream().map(TaskModel::getId).toList();
+    }
+
+    private List<String> allIds() {
+        List<String> ids = new ArrayList<>();
+        taskRepository.streamTasks(new TaskFilter(), 0, task -> ids.add(task.getId()));
+        return ids;
+    }
+
+    @Test
+    void writesShouldSurviveARestart() throws IOException {
+        taskRepository = open();
+        taskRepository.saveTasks(tasks(0, 100));
+        taskRepository.saveTask("single", "Single", null, null, START);
+        taskRepository.updateTask("id-00001", "Renamed", "Changed", "DONE", START.plusDays(500));
+        taskRepository.deleteTask("id-00002");
+        taskRepository.updateTasksStatus(List.of("id-00003", "id-00004"), "IN_PROGRESS");
+        taskRepository.deleteTasks(List.of("id-00005", "id-00006"));
+        int doneDeleted = taskRepository.deleteDoneTasksDueBefore(START.plusDays(10));
+        List<String> before = allIds();
+
+        reopen();
+
+        assertEquals(before, allIds());
+        assertEquals(101 - 1 - 2 - doneDeleted, taskRepository.countAllTasks());
+        TaskModel renamed = taskRepository.selectTask("id-00001");
+        assertEquals("Renamed", renamed.getTitle());
+        assertEquals(TaskStatus.DONE, renamed.getStatus());
+        assertEquals(START.plusDays(500), renamed.getDueDate());
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.selectTask("id-00003").getStatus());
+        assertEquals(TaskStatus.PENDING, taskRepository.selectTask("single").getStatus());
+        assertNull(taskRepository.selectTask("id-00002"));
+    }
+
+    @Test
+    void listETagShouldChangeAcrossARestartEvenWhenTheChangeCountIsTheSame() throws IOException {
+        taskRepository = open();
+        taskRepository.saveTasks(tasks(0, 10));
+        long changes = taskRepository.changeCount();
+        String before = ETagUtils.listETag(taskRepository.storeEpoch(), changes);
+
+        reopen();
+
+        assertEquals(changes, taskRepository.changeCount());
+        assertNotEquals(before, ETagUtils.listETag(taskRepository.storeEpoch(), taskRepository.changeCount()));
+    }
+
+    @Test
+    void recoveryShouldLoadTheSnapshotAndReplayTheLogAfterIt() throws IOException {
+        taskRepository = open();
+        taskRepository.saveTasks(tasks(0, 500));
+        taskRepository.snapshot();
+        taskRepository.saveTasks(tasks(500, 100));
+        taskRepository.deleteTasks(List.of("id-00000", "id-00550"));
+        List<String> before = allIds();
+
+        reopen();
+
+        assertEquals(before, allIds());
+        assertEquals(598, taskRepository.countAllTasks());
+    }
+
+    @Test
+    void snapshotShouldDeleteTheLogSegmentsAndSnapshotsItCovers() throws IOException {
+        taskRepository = open();
+        for (int i = 0; i < 60; i++) {
+            taskRepository.saveTasks(tasks(i * 500, 500));
+        }
+        assertTrue(taskRepository.segmentCount() > 1);
+
+        taskRepository.snapshot();
+        taskRepository.saveTask("after", "After", null, null, START);
+        taskRepository.snapshot();
+
+        assertEquals(1, taskRepository.segmentCount());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(p -> p.getFileName().toString().endsWith(".snap")).count());
+        }
+        reopen();
+        assertEquals(30001, taskRepository.countAllTasks());
+    }
+
+    @Test
+    void saveTasksShouldStoreNothingWhenAnIdIsTaken() throws IOException {
+        taskRepository = open();
+        taskRepository.saveTasks(tasks(0, 10));
+
+        assertThrows(DuplicateKeyException.class, () -> taskRepository.saveTasks(tasks(5, 10)));
+
+        reopen();
+        assertEquals(ids(tasks(0, 10)), allIds());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.taskmanagerapp.search;
+
+import com.example.taskmanagerapp.models.TaskModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    void tokenizeShouldLowerCaseAndDropStopWordsAndShortTokens() {
+        List<String> tokens = new ArrayList<>();
+        Tokenizer.tokenize("Fix the LOGIN-page, v2 & a café!", tokens::add);
+
+        assertEquals(List.of("fix", "login", "page", "v2", "café"), tokens);
+    }
+
+    @Test
+    void searchShouldRankMoreFrequentTermsFirst() {
+        index.index(task("1", "Write report", "Weekly status"));
+        index.index(task("2", "Report", "Report numbers in the report"));
+        index.index(task("3", "Buy milk", null));
+
+        SearchResult result = index.search("report", 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(List.of("2", "1"), ids(result));
+    }
+
+    @Test
+    void searchShouldMatchAnyTermAndRankDocsMatchingMoreTermsFirst() {
+        index.index(task("1", "Weekly planning", null));
+        index.index(task("2", "Weekly sync", null));
+        index.index(task("3", "Weekly report", null));
+
+        SearchResult result = index.search("weekly report", 2);
+
+        assertEquals(3, result.getTotalHits());
+        assertEquals(2, result.getHits().size());
+        assertEquals("3", result.getHits().get(0).getTaskId());
+        assertTrue(result.getHits().get(0).getScore() > result.getHits().get(1).getScore());
+    }
+
+    @Test
+    void indexShouldReplaceTextOfExistingTask() {
+        index.index(task("1", "Old title", null));
+        index.index(task("1", "New title", null));
+
+        assertEquals(0, index.search("old", 10).getTotalHits());
+        assertEquals(List.of("1"), ids(index.search("new", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void indexShouldKeepTheNewerTextWhenAnOlderVersionArrivesLast() {
+        TaskModel older = task("1", "Draft title", null);
+        older.setVersion(2);
+        TaskModel newer = task("1", "Final title", null);
+        newer.setVersion(3);
+
+        index.index(newer);
+        index.index(older);
+        index.indexAll(List.of(older));
+
+        assertEquals(0, index.search("draft", 10).getTotalHits());
+        assertEquals(List.of("1"), ids(index.search("final", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void taskUpdatedManyTimesShouldStillRankFirstForItsRareTerm() {
+        for (int i = 1; i <= 9; i++) {
+            index.index(task(String.valueOf(i), "Quarterly report", null));
+        }
+        // Each update tombstones the previous version; far fewer than compaction needs in an index this small
+        for (int i = 0; i < 600; i++) {
+            index.index(task("10", "Urgent report", "Revision " + i));
+        }
+
+        SearchResult result = index.search("urgent report", 10);
+
+        assertEquals(10, result.getTotalHits());
+        assertEquals("10", result.getHits().get(0).getTaskId());
+        assertTrue(result.getHits().get(9).getScore() > 0);
+    }
+
+    @Test
+    void searchShouldSkipRemovedTasks() {
+        index.index(task("1", "Deploy service", null));
+        index.index(task("2", "Deploy website", null));
+
+        index.remove("1");
+
+        assertEquals(List.of("2"), ids(index.search("deploy", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void compactionShouldKeepLiveTasksSearchable() {
+        List<String> removed = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            index.index(task("t" + i, "Task number " + i, i % 2 == 0 ? "even" : "odd"));
+            if (i % 3 != 0) {
+                removed.add("t" + i);
+            }
+        }
+
+        index.removeAll(removed);
+        index.index(task("late", "Even later", null));
+
+        assertEquals(1001, index.size());
+        SearchResult even = index.search("even", 2000);
+        assertEquals(501, even.getTotalHits());
+        assertTrue(ids(even).contains("late"));
+        assertEquals(List.of("t2997"), ids(index.search("2997", 10)));
+        assertEquals(0, index.search("2998", 10).getTotalHits());
+    }
+
+    @Test
+    void searchShouldReturnNothingForUnknownTerms() {
+        index.index(task("1", "Something", null));
+
+        assertEquals(0, index.search("nothing", 10).getTotalHits());
+        assertEquals(0, index.search("the", 10).getTotalHits());
+    }
+
+    private static TaskModel task(String id, String title, String description) {
+        TaskModel task = new TaskModel();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+
+    private static List<String> ids(SearchResult result) {
+        List<String> ids = new ArrayList<>();
+        for (SearchHit hit : result.getHits()) {
+            ids.add(hit.getTaskId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.taskmanagerapp.services;
+
+import com.example.taskmanagerapp.dto.IngestStatusDTO;
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.enums.IngestState;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.exceptions.IngestQueueFullException;
+import com.example.taskmanagerapp.exceptions.InvalidTitleException;
+import com.example.taskmanagerapp.exceptions.TaskNotFoundException;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.example.taskmanagerapp.search.TaskSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIngestServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Spy
+    private TaskSearchIndex taskSearchIndex = new TaskSearchIndex();
+
+    @InjectMocks
+    private TaskIngestService taskIngestService;
+
+    // Every task the repository was asked to store, one list per saveTasks call
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskIngestService, "async", true);
+        ReflectionTestUtils.setField(taskIngestService, "queueCapacity", 3);
+        ReflectionTestUtils.setField(taskIngestService, "batchSize", 500);
+        ReflectionTestUtils.setField(taskIngestService, "shutdownTimeoutMillis", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        taskIngestService.stop();
+    }
+
+    private static TaskRequestDTO request(String title) {
+        TaskRequestDTO dto = new TaskRequestDTO();
+        dto.setTitle(title);
+        dto.setDueDate(LocalDate.now().plusDays(3).toString());
+        return dto;
+    }
+
+    // saveTasks records the batch, then waits for the latch, so tasks pile up behind the first one
+    private void blockWritesUntil(CountDownLatch release) {
+        when(taskRepository.saveTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskModel> tasks = invocation.getArgument(0);
+            batches.add(tasks.stream().map(TaskModel::getId).toList());
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return tasks.size();
+        });
+    }
+
+    // Until the writer is inside saveTasks with the first task, so the next ones queue behind it
+    private void awaitFirstWrite() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (batches.isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "writer never started a batch");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void enqueueShouldServeTheTaskFromPendingUntilTheBatchIsStored() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        blockWritesUntil(release);
+        taskIngestService.start();
+
+        IngestStatusDTO accepted = taskIngestService.enqueue(request("Queued"));
+
+        assertEquals(IngestState.QUEUED, accepted.getState());
+        assertEquals("/api/v1/tasks/ingest/" + accepted.getId(), accepted.getStatusUrl());
+        TaskModel pending = taskIngestService.getPending(accepted.getId());
+        assertEquals("Queued", pending.getTitle());
+        assertEquals(TaskStatus.PENDING, pending.getStatus());
+        assertEquals(1, pending.getVersion());
+        assertEquals(IngestState.QUEUED, taskIngestService.status(accepted.getId()).getState());
+        assertEquals(1, taskIngestService.depth());
+
+        release.countDown();
+        taskIngestService.stop();
+
+        assertNull(taskIngestService.getPending(accepted.getId()));
+        assertEquals(0, taskIngestService.depth());
+        assertEquals(0, taskIngestService.lagSeconds());
+        assertEquals(1, taskSearchIndex.search("queued", 10).getHits().size());
+        when(taskRepository.selectTask(accepted.getId())).thenReturn(pending);
+        assertEquals(IngestState.STORED, taskIngestService.status(accepted.getId()).getState());
+        assertThrows(TaskNotFoundException.class, () -> taskIngestService.status("unknown"));
+    }
+
+    @Test
+    void enqueueShouldRejectWhenFullAndShutdownShouldStoreEverythingAccepted() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        blockWritesUntil(release);
+        taskIngestService.start();
+
+        List<String> accepted = new ArrayList<>();
+        accepted.add(taskIngestService.enqueue(request("Task 0")).getId());
+        awaitFirstWrite();
+        for (int i = 1; i < 3; i++) {
+            accepted.add(taskIngestService.enqueue(request("Task " + i)).getId());
+        }
+        assertThrows(IngestQueueFullException.class, () -> taskIngestService.enqueue(request("One too many")));
+        assertThrows(InvalidTitleException.class, () -> taskIngestService.enqueue(request("")));
+        assertTrue(taskIngestService.lagSeconds() > 0);
+
+        release.countDown();
+        taskIngestService.stop();
+
+        List<String> stored = batches.stream().flatMap(List::stream).toList();
+        assertEquals(accepted, stored);
+        // The first task was taken alone; the two queued behind it went in together
+        assertEquals(2, batches.size());
+        assertThrows(IngestQueueFullException.class, () -> taskIngestService.enqueue(request("After shutdown")));
+    }
+
+    @Test
+    void writeShouldRetryAFailedBatchOneByOneAndReportTheTaskThatFailed() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> bad = new ArrayList<>();
+        when(taskRepository.saveTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskModel> tasks = invocation.getArgument(0);
+            if (batches.isEmpty()) {
+                batches.add(List.of());
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+                return tasks.size();
+            }
+            if (tasks.stream().anyMatch(task -> bad.contains(task.getId()))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            batches.add(tasks.stream().map(TaskModel::getId).toList());
+            return tasks.size();
+        });
+        taskIngestService.start();
+        taskIngestService.enqueue(request("Holds the writer"));
+        awaitFirstWrite();
+        String good = taskIngestService.enqueue(request("Good")).getId();
+        String failing = taskIngestService.enqueue(request("Bad")).getId();
+        bad.add(failing);
+
+        release.countDown();
+        taskIngestService.stop();
+
+        assertTrue(batches.contains(List.of(good)));
+        assertEquals(IngestState.FAILED, taskIngestService.status(failing).getState());
+        assertNull(taskIngestService.getPending(failing));
+        assertEquals(0, taskIngestService.depth());
+    }
+
+    @Test
+    void stopShouldMarkEverythingLeftFailedWhenTheWriterDoesNotFinishInTime() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        taskIngestService.bindTo(registry);
+        ReflectionTestUtils.setField(taskIngestService, "shutdownTimeoutMillis", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        blockWritesUntil(release);
+        taskIngestService.start();
+        List<String> accepted = new ArrayList<>();
+        accepted.add(taskIngestService.enqueue(request("In flight")).getId());
+        awaitFirstWrite();
+        accepted.add(taskIngestService.enqueue(request("Queued 1")).getId());
+        accepted.add(taskIngestService.enqueue(request("Queued 2")).getId());
+
+        taskIngestService.stop();
+
+        for (String id : accepted) {
+            assertEquals(IngestState.FAILED, taskIngestService.status(id).getState());
+            assertNull(taskIngestService.getPending(id));
+        }
+        assertEquals(3, registry.get("task.ingest.failed").counter().count());
+
+        // The batch that was in flight lands after all, but is neither written again nor counted twice
+        release.countDown();
+        taskIngestService.stop();
+        assertEquals(1, batches.size());
+        assertEquals(0, registry.get("task.ingest.stored").counter().count());
+        assertEquals(3, registry.get("task.ingest.failed").counter().count());
+    }
+}
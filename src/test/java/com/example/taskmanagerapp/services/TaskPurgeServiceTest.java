@@ -0,0 +1,71 @@
+package com.example.taskmanagerapp.services;
+
+import com.example.taskmanagerapp.dto.PurgeStatsDTO;
+import com.example.taskmanagerapp.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPurgeServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskPurgeService taskPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskPurgeService, "retention", Duration.ofDays(7));
+        ReflectionTestUtils.setField(taskPurgeService, "batchSize", 500);
+        ReflectionTestUtils.setField(taskPurgeService, "batchPauseMillis", 0L);
+        ReflectionTestUtils.setField(taskPurgeService, "maxRowsPerRun", 100000L);
+    }
+
+    @Test
+    void purgeShouldRunBatchesUntilOneComesBackShort() {
+        when(taskRepository.purgeDeletedTasks(any(), eq(500))).thenReturn(500, 500, 120);
+
+        PurgeStatsDTO stats = taskPurgeService.purge();
+
+        verify(taskRepository, times(3)).purgeDeletedTasks(any(), eq(500));
+        assertEquals(1120, stats.getRunPurged());
+        assertEquals(1120, stats.getTotalPurged());
+        assertFalse(stats.isRunning());
+        assertNotNull(stats.getLastFinishedAt());
+    }
+
+    @Test
+    void purgeShouldStopAtTheRowCapAndResumeOnTheNextRun() {
+        ReflectionTestUtils.setField(taskPurgeService, "maxRowsPerRun", 1200L);
+        when(taskRepository.purgeDeletedTasks(any(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        assertEquals(1200, taskPurgeService.purge().getRunPurged());
+        verify(taskRepository, times(2)).purgeDeletedTasks(any(), eq(500));
+        verify(taskRepository).purgeDeletedTasks(any(), eq(200));
+
+        assertEquals(2400, taskPurgeService.purge().getTotalPurged());
+    }
+
+    @Test
+    void purgeShouldOnlyRemoveTasksDeletedBeforeTheRetention() {
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+
+        taskPurgeService.purge();
+
+        verify(taskRepository).purgeDeletedTasks(argThat(cutoff -> !cutoff.isBefore(before)
+                && cutoff.isBefore(LocalDateTime.now().minusDays(6))), eq(500));
+    }
+}
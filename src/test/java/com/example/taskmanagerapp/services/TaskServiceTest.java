@@ -1,20 +1,40 @@
 package com.example.taskmanagerapp.services;
 
+import com.example.taskmanagerapp.cache.RenderedTask;
+import com.example.taskmanagerapp.cache.TaskCache;
+import com.example.taskmanagerapp.config.JacksonConfig;
+import com.example.taskmanagerapp.dto.BatchTaskResponseDTO;
+import com.example.taskmanagerapp.dto.BulkOperationResponseDTO;
+import com.example.taskmanagerapp.dto.BulkTaskRequestDTO;
+import com.example.taskmanagerapp.dto.CursorTaskResponseDTO;
 import com.example.taskmanagerapp.dto.PaginatedTaskResponseDTO;
+import com.example.taskmanagerapp.dto.SearchTaskResponseDTO;
+import com.example.taskmanagerapp.dto.TaskPatchRequestDTO;
 import com.example.taskmanagerapp.dto.TaskRequestDTO;
 import com.example.taskmanagerapp.dto.TaskResponseDTO;
 import com.example.taskmanagerapp.enums.TaskStatus;
 import com.example.taskmanagerapp.exceptions.*;
+import com.example.taskmanagerapp.metrics.TaskMetrics;
+import com.example.taskmanagerapp.models.TaskFields;
+import com.example.taskmanagerapp.models.TaskFilter;
 import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
 import com.example.taskmanagerapp.repositories.TaskRepository;
+import com.example.taskmanagerapp.search.TaskSearchIndex;
+import com.example.taskmanagerapp.util.CursorUtils;
 import com.example.taskmanagerapp.util.IdGeneratorUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -28,11 +48,24 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Spy
+    private TaskCache taskCache = new TaskCache(100, 1 << 20);
+
+    @Spy
+    private TaskMetrics taskMetrics = new TaskMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private TaskSearchIndex taskSearchIndex = new TaskSearchIndex();
+
+    @Mock
+    private TaskIngestService taskIngestService;
+
     @InjectMocks
     private TaskService taskService;
 
     private TaskRequestDTO taskRequestDTO;
     private TaskModel taskModel;
+    private final LocalDate dueDate = LocalDate.now().plusDays(30);
 
     @BeforeEach
     void setUp() {
@@ -41,7 +74,7 @@ class TaskServiceTest {
         taskRequestDTO.setTitle("Test Task");
         taskRequestDTO.setDescription("Test Description");
         taskRequestDTO.setStatus("PENDING");
-        taskRequestDTO.setDueDate("2026-06-30");
+        taskRequestDTO.setDueDate(dueDate.toString());
 
         taskModel = new TaskModel();
         taskModel.setId("test-id-123");
@@ -49,6 +82,7 @@ class TaskServiceTest {
         taskModel.setDescription("Test Description");
         taskModel.setStatus(TaskStatus.PENDING);
         taskModel.setDueDate(LocalDate.of(2026, 6, 30));
+        ReflectionTestUtils.setField(taskService, "searchMaxLimit", 100);
     }
 
     //  SAVE TASK TESTS
@@ -56,7 +90,8 @@ class TaskServiceTest {
     void saveTaskShouldReturnTaskResponseDTOWhenValidTask() {
         try (MockedStatic<IdGeneratorUtil> mockedStatic = mockStatic(IdGeneratorUtil.class)) {
             mockedStatic.when(IdGeneratorUtil::generateId).thenReturn("test-id-123");
-            when(taskRepository.selectTask("test-id-123")).thenReturn(taskModel);
+            when(taskRepository.saveTask(eq("test-id-123"), eq("Test Task"), eq("Test Description"),
+                    eq("PENDING"), eq(dueDate))).thenReturn(taskModel);
 
             TaskResponseDTO result = taskService.saveTask(taskRequestDTO);
 
@@ -68,7 +103,8 @@ class TaskServiceTest {
             assertEquals(LocalDate.of(2026, 6, 30), result.getDueDate());
 
             verify(taskRepository).saveTask(eq("test-id-123"), eq("Test Task"),
-                    eq("Test Description"), eq("PENDING"), eq(LocalDate.of(2026, 6, 30)));
+                    eq("Test Description"), eq("PENDING"), eq(dueDate));
+            verify(taskRepository, never()).selectTask(any());
         }
     }
 
@@ -141,7 +177,7 @@ class TaskServiceTest {
 
         try (MockedStatic<IdGeneratorUtil> mockedStatic = mockStatic(IdGeneratorUtil.class)) {
             mockedStatic.when(IdGeneratorUtil::generateId).thenReturn("tomorrow-id");
-            when(taskRepository.selectTask("tomorrow-id")).thenReturn(tomorrowTaskModel);
+            when(taskRepository.saveTask(eq("tomorrow-id"), any(), any(), any(), eq(tomorrow))).thenReturn(tomorrowTaskModel);
 
             TaskResponseDTO result = taskService.saveTask(taskRequestDTO);
 
@@ -151,6 +187,82 @@ class TaskServiceTest {
         }
     }
 
+    @Test
+    void saveTaskShouldThrowInvalidStatusExceptionWhenStatusIsInvalid() {
+        taskRequestDTO.setStatus("INVALID_STATUS");
+
+        InvalidStatusException exception = assertThrows(InvalidStatusException.class,
+                () -> taskService.saveTask(taskRequestDTO));
+
+        assertEquals("Valid statuses are: PENDING, IN_PROGRESS, DONE", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void saveTaskShouldThrowInvalidDateExceptionWhenDueDateIsMalformed() {
+        taskRequestDTO.setDueDate("31-12-2030");
+
+        InvalidDateException exception = assertThrows(InvalidDateException.class,
+                () -> taskService.saveTask(taskRequestDTO));
+
+        assertEquals("Invalid date format, expected yyyy-MM-dd", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+//  BATCH SAVE TESTS
+    @Test
+    void saveTasksShouldInsertValidTasksInChunksAndReportInvalidOnes() {
+        ReflectionTestUtils.setField(taskService, "batchChunkSize", 2);
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 10);
+        TaskRequestDTO invalidTitle = new TaskRequestDTO();
+        invalidTitle.setDueDate("2030-01-01");
+
+        BatchTaskResponseDTO result = taskService.saveTasks(
+                Arrays.asList(taskRequestDTO, invalidTitle, taskRequestDTO, taskRequestDTO));
+
+        assertEquals(3, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertNotNull(result.getResults().get(0).getId());
+        assertNull(result.getResults().get(1).getId());
+        assertEquals("INVALID_TITLE", result.getResults().get(1).getCode());
+        assertEquals(1, result.getResults().get(1).getIndex());
+        verify(taskRepository, times(2)).saveTasks(anyList());
+    }
+
+    @Test
+    void saveTasksShouldMarkChunkFailedWhenInsertFails() {
+        ReflectionTestUtils.setField(taskService, "batchChunkSize", 1);
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 10);
+        when(taskRepository.saveTasks(anyList()))
+                .thenThrow(new org.springframework.dao.DataIntegrityViolationException("duplicate"))
+                .thenReturn(1);
+
+        BatchTaskResponseDTO result = taskService.saveTasks(Arrays.asList(taskRequestDTO, taskRequestDTO));
+
+        assertEquals(1, result.getCreated());
+        assertEquals("INSERT_FAILED", result.getResults().get(0).getCode());
+        assertNotNull(result.getResults().get(1).getId());
+    }
+
+    @Test
+    void saveTasksShouldThrowInvalidBatchExceptionWhenBatchIsTooLarge() {
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 1);
+
+        assertThrows(InvalidBatchException.class,
+                () -> taskService.saveTasks(Arrays.asList(taskRequestDTO, taskRequestDTO)));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void checkBatchChunkSizeShouldRejectAChunkSizeBelowOne() {
+        ReflectionTestUtils.setField(taskService, "batchChunkSize", 0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> taskService.checkBatchChunkSize());
+
+        assertEquals("task.batch.chunk-size must be at least 1, was 0", exception.getMessage());
+    }
+
 //  GET TASK BY ID TESTS
     @Test
     void getTaskByIdShouldReturnTaskResponseDTOWhenTaskExists() {
@@ -177,6 +289,113 @@ class TaskServiceTest {
         verify(taskRepository).selectTask(taskId);
     }
 
+    @Test
+    void getTaskByIdShouldRecordLatencyEvenWhenNotFound() {
+        when(taskRepository.selectTask("missing")).thenReturn(null);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById("missing"));
+
+        verify(taskMetrics).timeService(eq("get"), any());
+    }
+
+    @Test
+    void notFoundExceptionShouldNotCaptureStackTrace() {
+        when(taskRepository.selectTask("missing")).thenReturn(null);
+
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class,
+                () -> taskService.getTaskById("missing"));
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void getTaskByIdShouldServeRepeatedReadsFromCache() {
+        String taskId = "test-id-123";
+        when(taskRepository.selectTask(taskId)).thenReturn(taskModel);
+
+        taskService.getTaskById(taskId);
+        TaskResponseDTO result = taskService.getTaskById(taskId);
+
+        assertEquals("Test Task", result.getTitle());
+        verify(taskRepository, times(1)).selectTask(taskId);
+        assertEquals(1, taskService.getCacheStats().getHitCount());
+        assertEquals(1, taskService.getCacheStats().getMissCount());
+    }
+
+    @Test
+    void getTaskByIdWithFieldsShouldReadProjectedTaskWithoutCachingIt() {
+        TaskFields fields = new TaskFields(TaskFields.ID | TaskFields.TITLE);
+        when(taskRepository.selectTask("test-id-123", fields)).thenReturn(taskModel);
+        when(taskRepository.selectTask("test-id-123")).thenReturn(taskModel);
+
+        taskService.getTaskById("test-id-123", fields);
+        taskService.getTaskById("test-id-123", fields);
+        taskService.getTaskById("test-id-123");
+        taskService.getTaskById("test-id-123", fields);
+
+        // Two projected misses, then one full read that fills the cache and serves the last projected request
+        verify(taskRepository, times(2)).selectTask("test-id-123", fields);
+        verify(taskRepository, times(1)).selectTask("test-id-123");
+    }
+
+    @Test
+    void getTaskByIdShouldNotCacheMissingTask() {
+        String taskId = "non-existent-id";
+        when(taskRepository.selectTask(taskId)).thenReturn(null);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(taskId));
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(taskId));
+
+        verify(taskRepository, times(2)).selectTask(taskId);
+    }
+
+    @Test
+    void getRenderedTaskShouldRenderOnceAndDropTheBodyOnUpdateAndDelete() throws Exception {
+        ReflectionTestUtils.setField(taskService, "objectMapper",
+                Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build());
+        String taskId = "test-id-123";
+        taskModel.setVersion(1);
+        TaskModel updated = new TaskModel();
+        updated.setId(taskId);
+        updated.setTitle("Renamed");
+        updated.setStatus(TaskStatus.DONE);
+        updated.setVersion(2);
+        when(taskRepository.selectTask(taskId)).thenReturn(taskModel, updated);
+        when(taskRepository.updateTask(eq(taskId), anyString(), any(), any(), any())).thenReturn(updated);
+        when(taskRepository.deleteTask(taskId)).thenReturn(true);
+
+        RenderedTask first = taskService.getRenderedTask(taskId);
+        assertSame(first, taskService.getRenderedTask(taskId));
+        assertEquals(1, first.getVersion());
+        assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("\"title\":\"Test Task\""));
+
+        taskRequestDTO.setDueDate(LocalDate.now().plusDays(5).toString());
+        taskService.updateTask(taskId, taskRequestDTO);
+        RenderedTask second = taskService.getRenderedTask(taskId);
+        assertEquals(2, second.getVersion());
+        assertTrue(new String(second.getBody(), StandardCharsets.UTF_8).contains("\"title\":\"Renamed\""));
+        verify(taskRepository, times(2)).selectTask(taskId);
+
+        taskService.deleteTaskById(taskId);
+        when(taskRepository.selectTask(taskId)).thenReturn(null);
+        assertThrows(TaskNotFoundException.class, () -> taskService.getRenderedTask(taskId));
+    }
+
+    @Test
+    void getTaskByIdShouldServeQueuedTaskFromThePendingBufferWithoutCachingIt() throws Exception {
+        ReflectionTestUtils.setField(taskService, "objectMapper",
+                Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build());
+        when(taskIngestService.getPending("queued-id")).thenReturn(taskModel);
+
+        assertEquals("Test Task", taskService.getTaskById("queued-id").getTitle());
+        assertEquals("Test Task", taskService.getTaskById("queued-id", new TaskFields(TaskFields.TITLE)).getTitle());
+        RenderedTask rendered = taskService.getRenderedTask("queued-id");
+        assertTrue(new String(rendered.getBody(), StandardCharsets.UTF_8).contains("\"title\":\"Test Task\""));
+
+        verify(taskRepository, never()).selectTask(anyString());
+        assertEquals(0, taskService.getCacheStats().getSize());
+    }
+
 //    UPDATE TASK TESTS
     @Test
     void updateTaskShouldReturnUpdatedTaskWhenValidRequest() {
@@ -189,11 +408,10 @@ class TaskServiceTest {
         updatedTaskModel.setTitle("Updated Task");
         updatedTaskModel.setDescription("Test Description");
         updatedTaskModel.setStatus(TaskStatus.IN_PROGRESS);
-        updatedTaskModel.setDueDate(LocalDate.of(2026, 6, 30));
+        updatedTaskModel.setDueDate(dueDate);
 
         when(taskRepository.updateTask(eq(taskId), eq("Updated Task"), eq("Test Description"),
-                eq("IN_PROGRESS"), eq(LocalDate.of(2026, 6, 30)))).thenReturn(true);
-        when(taskRepository.selectTask(taskId)).thenReturn(updatedTaskModel);
+                eq("IN_PROGRESS"), eq(dueDate))).thenReturn(updatedTaskModel);
 
         TaskResponseDTO result = taskService.updateTask(taskId, taskRequestDTO);
 
@@ -201,7 +419,9 @@ class TaskServiceTest {
         assertEquals("Updated Task", result.getTitle());
         assertEquals("IN_PROGRESS", result.getStatus());
         verify(taskRepository).updateTask(eq(taskId), eq("Updated Task"), eq("Test Description"),
-                eq("IN_PROGRESS"), eq(LocalDate.of(2026, 6, 30)));
+                eq("IN_PROGRESS"), eq(dueDate));
+        verify(taskCache).invalidate(taskId);
+        verify(taskRepository, never()).selectTask(any());
     }
 
     @Test
@@ -291,7 +511,7 @@ class TaskServiceTest {
     @Test
     void updateTaskShouldThrowTaskNotFoundExceptionWhenTaskDoesNotExist() {
         String taskId = "non-existent-id";
-        when(taskRepository.updateTask(any(), any(), any(), any(), any())).thenReturn(false);
+        when(taskRepository.updateTask(any(), any(), any(), any(), any())).thenReturn(null);
 
         TaskNotFoundException exception = assertThrows(TaskNotFoundException.class,
                 () -> taskService.updateTask(taskId, taskRequestDTO));
@@ -309,6 +529,7 @@ class TaskServiceTest {
 
         assertTrue(result);
         verify(taskRepository).deleteTask(taskId);
+        verify(taskCache).invalidate(taskId);
     }
 
     @Test
@@ -323,6 +544,126 @@ class TaskServiceTest {
         verify(taskRepository).deleteTask(taskId);
     }
 
+//  CONDITIONAL WRITE TESTS
+    @Test
+    void updateTaskWithVersionShouldUseCompareAndSet() {
+        taskRequestDTO.setDueDate("2030-06-30");
+        taskModel.setVersion(4);
+        when(taskRepository.updateTaskIfVersion(eq("test-id-123"), eq("Test Task"), eq("Test Description"),
+                eq("PENDING"), eq(LocalDate.of(2030, 6, 30)), eq(3L))).thenReturn(taskModel);
+
+        TaskResponseDTO result = taskService.updateTask("test-id-123", taskRequestDTO, 3L);
+
+        assertEquals(4, result.getVersion());
+        verify(taskRepository, never()).updateTask(any(), any(), any(), any(), any());
+        verify(taskCache).invalidate("test-id-123");
+    }
+
+    @Test
+    void conditionalWritesShouldThrowPreconditionFailedWhenTaskHasMovedOn() {
+        taskRequestDTO.setDueDate("2030-06-30");
+        when(taskRepository.updateTaskIfVersion(any(), any(), any(), any(), any(), eq(3L))).thenReturn(null);
+        when(taskRepository.deleteTaskIfVersion("test-id-123", 3L)).thenReturn(false);
+        when(taskRepository.selectTask("test-id-123")).thenReturn(taskModel);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask("test-id-123", taskRequestDTO, 3L));
+        assertThrows(PreconditionFailedException.class, () -> taskService.deleteTaskById("test-id-123", 3L));
+        verify(taskCache, never()).invalidate(any());
+    }
+
+    @Test
+    void conditionalWritesShouldThrowTaskNotFoundWhenTaskIsGone() {
+        when(taskRepository.deleteTaskIfVersion("missing", 3L)).thenReturn(false);
+        when(taskRepository.selectTask("missing")).thenReturn(null);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTaskById("missing", 3L));
+    }
+
+    @Test
+    void patchTaskShouldWriteOnlyPresentFieldsAndSkipReindexingForStatusChanges() {
+        TaskPatchRequestDTO dto = new TaskPatchRequestDTO();
+        dto.setStatus("DONE");
+        taskModel.setStatus(TaskStatus.DONE);
+        when(taskRepository.patchTask(eq("test-id-123"), argThat(patch -> patch.getFields() == TaskPatch.STATUS), isNull()))
+                .thenReturn(taskModel);
+
+        TaskResponseDTO result = taskService.patchTask("test-id-123", dto, null);
+
+        assertEquals("DONE", result.getStatus());
+        verify(taskCache).invalidate("test-id-123");
+        verify(taskSearchIndex, never()).index(any());
+    }
+
+    @Test
+    void patchTaskShouldNotWriteWhenPatchIsEmpty() {
+        when(taskRepository.selectTask("test-id-123")).thenReturn(taskModel);
+
+        assertEquals("test-id-123", taskService.patchTask("test-id-123", new TaskPatchRequestDTO(), null).getId());
+        assertThrows(PreconditionFailedException.class, () -> taskService.patchTask("test-id-123", new TaskPatchRequestDTO(), 7L));
+        verify(taskRepository, never()).patchTask(any(), any(), any());
+    }
+
+//  BULK OPERATION TESTS
+    @Test
+    void updateTasksStatusShouldUpdateAllIdsInOneStatement() {
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 10);
+        BulkTaskRequestDTO bulkRequest = new BulkTaskRequestDTO();
+        bulkRequest.setIds(Arrays.asList("id-1", "id-2", "id-3"));
+        bulkRequest.setStatus("done");
+        when(taskRepository.updateTasksStatus(bulkRequest.getIds(), "DONE")).thenReturn(2);
+
+        BulkOperationResponseDTO result = taskService.updateTasksStatus(bulkRequest);
+
+        assertEquals(2, result.getAffected());
+        verify(taskCache).invalidateAll(bulkRequest.getIds());
+    }
+
+    @Test
+    void updateTasksStatusShouldThrowInvalidStatusExceptionWhenStatusIsInvalid() {
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 10);
+        BulkTaskRequestDTO bulkRequest = new BulkTaskRequestDTO();
+        bulkRequest.setIds(Arrays.asList("id-1"));
+        bulkRequest.setStatus("CLOSED");
+
+        assertThrows(InvalidStatusException.class, () -> taskService.updateTasksStatus(bulkRequest));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteTasksShouldThrowInvalidBatchExceptionWhenIdsAreEmpty() {
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 10);
+        BulkTaskRequestDTO bulkRequest = new BulkTaskRequestDTO();
+        bulkRequest.setIds(List.of());
+
+        assertThrows(InvalidBatchException.class, () -> taskService.deleteTasks(bulkRequest));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteTasksShouldReturnAffectedCount() {
+        ReflectionTestUtils.setField(taskService, "batchMaxSize", 10);
+        BulkTaskRequestDTO bulkRequest = new BulkTaskRequestDTO();
+        bulkRequest.setIds(Arrays.asList("id-1", "id-2"));
+        when(taskRepository.deleteTasks(bulkRequest.getIds())).thenReturn(2);
+
+        assertEquals(2, taskService.deleteTasks(bulkRequest).getAffected());
+        verify(taskCache).invalidateAll(bulkRequest.getIds());
+    }
+
+    @Test
+    void deleteDoneTasksDueBeforeShouldDeleteAndClearCache() {
+        when(taskRepository.deleteDoneTasksDueBefore(LocalDate.of(2026, 1, 1))).thenReturn(5);
+
+        assertEquals(5, taskService.deleteDoneTasksDueBefore("2026-01-01").getAffected());
+        verify(taskCache).invalidateAll();
+    }
+
+    @Test
+    void deleteDoneTasksDueBeforeShouldThrowInvalidDateExceptionWhenDateIsMalformed() {
+        assertThrows(InvalidDateException.class, () -> taskService.deleteDoneTasksDueBefore("yesterday"));
+        verifyNoInteractions(taskRepository);
+    }
+
 //  GET ALL TASKS TESTS
     @Test
     void getAllTasksShouldReturnPaginatedResponseWhenValidPageAndSize() {
@@ -468,4 +809,177 @@ class TaskServiceTest {
         assertEquals("Task 2", secondTask.getTitle());
         assertEquals("IN_PROGRESS", secondTask.getStatus());
     }
+
+    @Test
+    void getAllTasksShouldSkipCountAndFetchOneExtraRowWhenSkipCountEnabled() {
+        ReflectionTestUtils.setField(taskService, "skipCount", true);
+        TaskModel task2 = new TaskModel();
+        task2.setId("task-2");
+        task2.setTitle("Task 2");
+        task2.setStatus(TaskStatus.PENDING);
+        task2.setDueDate(LocalDate.of(2026, 7, 15));
+
+        when(taskRepository.selectAllTasksPaginated(2, 1)).thenReturn(Arrays.asList(taskModel, task2));
+
+        PaginatedTaskResponseDTO result = taskService.getAllTasks(1, 1);
+
+        assertEquals(1, result.getTasks().size());
+        assertTrue(result.isHasMore());
+        assertEquals(3L, result.getTotal());
+        verify(taskRepository, never()).countAllTasks();
+    }
+
+    @Test
+    void getAllTasksShouldUseFilteredQueryAndCountWhenFilterGiven() {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(List.of(TaskStatus.PENDING));
+        when(taskRepository.selectTasksPaginated(filter, TaskFields.ALL, 1, 0)).thenReturn(List.of(taskModel));
+        when(taskRepository.countTasks(filter)).thenReturn(4L);
+
+        PaginatedTaskResponseDTO result = taskService.getAllTasks(0, 1, filter);
+
+        assertEquals(1, result.getTasks().size());
+        assertEquals(4L, result.getTotal());
+        assertTrue(result.isHasMore());
+        verify(taskRepository, never()).countAllTasks();
+        verify(taskRepository, never()).selectAllTasksPaginated(anyInt(), anyInt());
+    }
+
+    @Test
+    void getAllTasksWithFieldsShouldUseProjectedQueryButKeepLiveCounter() {
+        TaskFields fields = new TaskFields(TaskFields.ID | TaskFields.TITLE);
+        when(taskRepository.selectTasksPaginated(any(TaskFilter.class), eq(fields), eq(1), eq(0))).thenReturn(List.of(taskModel));
+        when(taskRepository.countAllTasks()).thenReturn(3L);
+
+        PaginatedTaskResponseDTO result = taskService.getAllTasks(0, 1, new TaskFilter(), fields);
+
+        assertEquals(3L, result.getTotal());
+        verify(taskRepository, never()).countTasks(any());
+        verify(taskRepository, never()).selectAllTasksPaginated(anyInt(), anyInt());
+    }
+
+//  CURSOR PAGINATION TESTS
+    @Test
+    void getTasksAfterCursorShouldReturnNextCursorWhenMoreTasksExist() {
+        TaskModel task2 = new TaskModel();
+        task2.setId("task-2");
+        task2.setTitle("Task 2");
+        task2.setStatus(TaskStatus.PENDING);
+        task2.setDueDate(LocalDate.of(2026, 7, 15));
+
+        when(taskRepository.selectTasksAfter(null, null, 2)).thenReturn(Arrays.asList(taskModel, task2));
+
+        CursorTaskResponseDTO result = taskService.getTasksAfterCursor(null, 1);
+
+        assertEquals(1, result.getTasks().size());
+        assertTrue(result.isHasMore());
+        TaskModel decoded = CursorUtils.decode(result.getNextCursor());
+        assertEquals("test-id-123", decoded.getId());
+        assertEquals(LocalDate.of(2026, 6, 30), decoded.getDueDate());
+    }
+
+    @Test
+    void getTasksAfterCursorShouldSeekPastCursorPosition() {
+        String cursor = CursorUtils.encode(taskModel);
+        when(taskRepository.selectTasksAfter(LocalDate.of(2026, 6, 30), "test-id-123", 6)).thenReturn(List.of());
+
+        CursorTaskResponseDTO result = taskService.getTasksAfterCursor(cursor, 5);
+
+        assertEquals(0, result.getTasks().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getTasksAfterCursorShouldApplyFilterWhenGiven() {
+        TaskFilter filter = new TaskFilter();
+        filter.setDueFrom(LocalDate.of(2026, 6, 1));
+        String cursor = CursorUtils.encode(taskModel);
+        when(taskRepository.selectTasksAfter(filter, TaskFields.ALL, LocalDate.of(2026, 6, 30), "test-id-123", 6)).thenReturn(List.of());
+
+        CursorTaskResponseDTO result = taskService.getTasksAfterCursor(cursor, 5, filter);
+
+        assertEquals(0, result.getTasks().size());
+        verify(taskRepository, never()).selectTasksAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void getTasksAfterCursorShouldThrowInvalidCursorExceptionWhenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class,
+                () -> taskService.getTasksAfterCursor("not-a-cursor", 5));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksAfterCursorShouldThrowInvalidPageOrSizeExceptionWhenSizeIsZero() {
+        InvalidPageOrSizeException exception = assertThrows(InvalidPageOrSizeException.class,
+                () -> taskService.getTasksAfterCursor(null, 0));
+
+        assertEquals("Size must be > 0", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+//  SEARCH TESTS
+    @Test
+    void saveTaskShouldAddTaskToSearchIndex() {
+        taskRequestDTO.setDueDate(LocalDate.now().plusDays(1).toString());
+        when(taskRepository.saveTask(any(), any(), any(), any(), any())).thenReturn(taskModel);
+        when(taskRepository.selectTasks(List.of("test-id-123"))).thenReturn(List.of(taskModel));
+
+        taskService.saveTask(taskRequestDTO);
+        SearchTaskResponseDTO result = taskService.searchTasks("test description", 10);
+
+        assertEquals(1, result.getTotalHits());
+        assertEquals("test-id-123", result.getTasks().get(0).getId());
+    }
+
+    @Test
+    void deleteTaskShouldRemoveTaskFromSearchIndex() {
+        taskSearchIndex.index(taskModel);
+        when(taskRepository.deleteTask("test-id-123")).thenReturn(true);
+
+        taskService.deleteTaskById("test-id-123");
+        SearchTaskResponseDTO result = taskService.searchTasks("test", 10);
+
+        assertEquals(0, result.getTotalHits());
+        assertTrue(result.getTasks().isEmpty());
+    }
+
+    @Test
+    void searchTasksShouldDropHitsWithoutLiveRow() {
+        TaskModel task2 = new TaskModel();
+        task2.setId("task-2");
+        task2.setTitle("Test Task 2");
+        task2.setStatus(TaskStatus.PENDING);
+        task2.setDueDate(LocalDate.of(2026, 7, 15));
+        taskSearchIndex.index(taskModel);
+        taskSearchIndex.index(task2);
+        // test-id-123 was deleted without going through the index
+        when(taskRepository.selectTasks(anyList())).thenReturn(List.of(task2));
+
+        SearchTaskResponseDTO first = taskService.searchTasks("task", 10);
+        SearchTaskResponseDTO second = taskService.searchTasks("task", 10);
+
+        assertEquals(1, first.getTotalHits());
+        assertEquals("task-2", first.getTasks().get(0).getId());
+        assertEquals(1, second.getTotalHits());
+        assertEquals(1, taskSearchIndex.size());
+    }
+
+    @Test
+    void searchTasksShouldThrowInvalidQueryExceptionWhenQueryIsBlank() {
+        InvalidQueryException exception = assertThrows(InvalidQueryException.class,
+                () -> taskService.searchTasks("  ", 10));
+
+        assertEquals("Query is required", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void searchTasksShouldThrowInvalidPageOrSizeExceptionWhenLimitTooLarge() {
+        ReflectionTestUtils.setField(taskService, "searchMaxLimit", 5);
+
+        assertThrows(InvalidPageOrSizeException.class, () -> taskService.searchTasks("test", 6));
+        verifyNoInteractions(taskRepository);
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.taskmanagerapp.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class IdGeneratorUtilTest {
+
+    @Test
+    void uuidV7ShouldSetVersionAndVariantBits() {
+        UUID id = UUID.fromString(IdGeneratorUtil.uuidV7());
+
+        Assertions.assertEquals(7, id.version());
+        Assertions.assertEquals(2, id.variant());
+    }
+
+    @Test
+    void uuidV7ShouldStartWithCurrentTimeSoIdsSortByCreation() throws Exception {
+        long before = System.currentTimeMillis();
+        String first = IdGeneratorUtil.uuidV7();
+        Thread.sleep(2);
+        String second = IdGeneratorUtil.uuidV7();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UUID.fromString(first).getMostSignificantBits() >>> 16;
+        Assertions.assertTrue(timestamp >= before && timestamp <= after);
+        // Canonical lower-case hex compares the same way as the stored keys
+        Assertions.assertTrue(first.compareTo(second) < 0);
+    }
+}
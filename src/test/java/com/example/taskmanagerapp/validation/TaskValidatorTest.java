@@ -0,0 +1,129 @@
+package com.example.taskmanagerapp.validation;
+
+import com.example.taskmanagerapp.dto.TaskPatchRequestDTO;
+import com.example.taskmanagerapp.dto.TaskRequestDTO;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import com.example.taskmanagerapp.models.TaskPatch;
+import com.example.taskmanagerapp.util.TaskUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskValidatorTest {
+
+    private TaskRequestDTO request(String title, String status, String dueDate) {
+        TaskRequestDTO dto = new TaskRequestDTO();
+        dto.setTitle(title);
+        dto.setDescription("Description");
+        dto.setStatus(status);
+        dto.setDueDate(dueDate);
+        return dto;
+    }
+
+    @Test
+    void validateNewTaskShouldReturnParsedTaskWhenValid() {
+        String dueDate = LocalDate.now().plusDays(5).toString();
+
+        ValidationResult<TaskModel> result = TaskValidator.validateNewTask(request("Title", "in_Progress", dueDate));
+
+        assertTrue(result.isValid());
+        assertEquals(TaskStatus.IN_PROGRESS, result.getValue().getStatus());
+        assertEquals(LocalDate.parse(dueDate), result.getValue().getDueDate());
+        assertEquals("Title", result.getValue().getTitle());
+    }
+
+    @Test
+    void validateNewTaskShouldReturnErrorCodesInsteadOfThrowing() {
+        String dueDate = LocalDate.now().plusDays(5).toString();
+
+        assertEquals(TaskValidator.INVALID_TITLE, TaskValidator.validateNewTask(null).getCode());
+        assertEquals(TaskValidator.INVALID_TITLE, TaskValidator.validateNewTask(request("a".repeat(101), null, dueDate)).getCode());
+        assertEquals(TaskValidator.INVALID_STATUS, TaskValidator.validateNewTask(request("Title", "ARCHIVED", dueDate)).getCode());
+        assertEquals(TaskValidator.INVALID_DATE, TaskValidator.validateNewTask(request("Title", null, "31-12-2099")).getCode());
+        ValidationResult<TaskModel> past = TaskValidator.validateNewTask(request("Title", null, "2020-01-01"));
+        assertFalse(past.isValid());
+        assertNull(past.getValue());
+        assertEquals("Invalid date, date should be of future", past.getMessage());
+    }
+
+    @Test
+    void validateTaskUpdateShouldRequireStatus() {
+        ValidationResult<TaskModel> result = TaskValidator.validateTaskUpdate(request("Title", null, LocalDate.now().plusDays(1).toString()));
+
+        assertEquals(TaskValidator.INVALID_STATUS, result.getCode());
+        assertEquals("Status is required", result.getMessage());
+    }
+
+    @Test
+    void validateTaskUpdateShouldRejectTitlesLongerThanTheColumn() {
+        String dueDate = LocalDate.now().plusDays(1).toString();
+
+        ValidationResult<TaskModel> tooLong = TaskValidator.validateTaskUpdate(request("a".repeat(101), "DONE", dueDate));
+
+        assertEquals(TaskValidator.INVALID_TITLE, tooLong.getCode());
+        assertEquals("Title must be at most 100 characters", tooLong.getMessage());
+        assertTrue(TaskValidator.validateTaskUpdate(request("a".repeat(100), "DONE", dueDate)).isValid());
+    }
+
+    @Test
+    void parseIsoDateShouldAcceptExactlyWhatLocalDateParseAccepts() {
+        assertEquals(LocalDate.of(2028, 2, 29), TaskUtils.parseIsoDate("2028-02-29"));
+        assertEquals(LocalDate.of(2030, 12, 31), TaskUtils.parseIsoDate("2030-12-31"));
+        assertNull(TaskUtils.parseIsoDate("2027-02-29"));
+        assertNull(TaskUtils.parseIsoDate("2030-04-31"));
+        assertNull(TaskUtils.parseIsoDate("2030-13-01"));
+        assertNull(TaskUtils.parseIsoDate("2030-00-10"));
+        assertNull(TaskUtils.parseIsoDate("2030-1-01"));
+        assertNull(TaskUtils.parseIsoDate("2030/01/01"));
+        assertNull(TaskUtils.parseIsoDate("2030-01-0a"));
+        assertNull(TaskUtils.parseIsoDate(""));
+    }
+
+    @Test
+    void parseStatusShouldIgnoreCase() {
+        assertEquals(TaskStatus.DONE, TaskUtils.parseStatus("done"));
+        assertEquals(TaskStatus.IN_PROGRESS, TaskUtils.parseStatus("In_Progress"));
+        assertNull(TaskUtils.parseStatus("DONE "));
+        assertNull(TaskUtils.parseStatus(null));
+    }
+
+    @Test
+    void validateTaskPatchShouldOnlyCheckAndSetFieldsThatArePresent() {
+        TaskPatchRequestDTO statusOnly = new TaskPatchRequestDTO();
+        statusOnly.setStatus("done");
+
+        ValidationResult<TaskPatch> result = TaskValidator.validateTaskPatch(statusOnly);
+
+        assertTrue(result.isValid());
+        assertEquals(TaskPatch.STATUS, result.getValue().getFields());
+        assertEquals(TaskStatus.DONE, result.getValue().getStatus());
+
+        TaskPatchRequestDTO clearDescription = new TaskPatchRequestDTO();
+        clearDescription.setDescription(null);
+        assertEquals(TaskPatch.DESCRIPTION, TaskValidator.validateTaskPatch(clearDescription).getValue().getFields());
+        assertTrue(TaskValidator.validateTaskPatch(new TaskPatchRequestDTO()).getValue().isEmpty());
+    }
+
+    @Test
+    void validateTaskPatchShouldRejectNullOrInvalidRequiredFields() {
+        TaskPatchRequestDTO nullTitle = new TaskPatchRequestDTO();
+        nullTitle.setTitle(null);
+        TaskPatchRequestDTO nullDueDate = new TaskPatchRequestDTO();
+        nullDueDate.setDueDate(null);
+        TaskPatchRequestDTO badStatus = new TaskPatchRequestDTO();
+        badStatus.setStatus("ARCHIVED");
+        TaskPatchRequestDTO pastDueDate = new TaskPatchRequestDTO();
+        pastDueDate.setDueDate("2020-01-01");
+
+        assertEquals(TaskValidator.INVALID_TITLE, TaskValidator.validateTaskPatch(nullTitle).getCode());
+        assertEquals(TaskValidator.INVALID_DATE, TaskValidator.validateTaskPatch(nullDueDate).getCode());
+        assertEquals(TaskValidator.INVALID_STATUS, TaskValidator.validateTaskPatch(badStatus).getCode());
+        assertEquals(TaskValidator.INVALID_DATE, TaskValidator.validateTaskPatch(pastDueDate).getCode());
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.taskmanagerapp.wal;
+
+import com.example.taskmanagerapp.enums.FsyncPolicy;
+import com.example.taskmanagerapp.enums.TaskStatus;
+import com.example.taskmanagerapp.models.TaskModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private static TaskModel task(int i) {
+        TaskModel task = new TaskModel();
+        task.setId("id-" + i);
+        task.setTitle("Task " + i);
+        task.setDescription(i % 2 == 0 ? "Description " + i : null);
+        task.setStatus(TaskStatus.values()[i % 3]);
+        task.setDueDate(i % 5 == 0 ? null : LocalDate.of(2030, 1, 1).plusDays(i));
+        // Non-zero so a record never ends in bytes a zeroed tail would leave unchanged
+        task.setVersion(i + 1);
+        return task;
+    }
+
+    private WriteAheadLog open(List<LogRecord> replayed) throws IOException {
+        WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, FsyncPolicy.ALWAYS, 0);
+        log.recover(0, replayed::add);
+        return log;
+    }
+
+    // Writes count single-task records and returns the file offset each one ends at
+    private List<Integer> writeRecords(int count) throws IOException {
+        List<Integer> ends = new ArrayList<>();
+        try (WriteAheadLog log = open(new ArrayList<>())) {
+            for (int i = 0; i < count; i++) {
+                log.append(LogRecord.put(List.of(task(i))));
+                ends.add(ends.isEmpty() ? 0 : ends.get(ends.size() - 1));
+                ends.set(i, ends.get(i) + 8 + 9 + LogRecord.put(List.of(task(i))).encodePayload().length);
+            }
+        }
+        return ends;
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.filter(p -> p.getFileName().toString().endsWith(".log")).toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+    // Leaves the first length bytes and zeroes the rest, like a crash before the OS wrote them back
+    private static void cutAt(Path segment, int length) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(length);
+            file.write(new byte[(int) file.length() - length]);
+        }
+    }
+
+    @Test
+    void recoverShouldReplayEveryRecordInOrder() throws IOException {
+        writeRecords(50);
+
+        List<LogRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(replayed)) {
+            assertEquals(50, log.lastLsn());
+        }
+
+        assertEquals(50, replayed.size());
+        for (int i = 0; i < 50; i++) {
+            TaskModel task = replayed.get(i).getTasks().get(0);
+            assertEquals(task(i).getId(), task.getId());
+            assertEquals(task(i).getDescription(), task.getDescription());
+            assertEquals(task(i).getStatus(), task.getStatus());
+            assertEquals(task(i).getDueDate(), task.getDueDate());
+            assertEquals(task(i).getVersion(), task.getVersion());
+        }
+    }
+
+    @Test
+    void recoverShouldKeepTheIntactPrefixWhenTheLogIsCutAtRandomPoints() throws IOException {
+        List<Integer> ends = writeRecords(200);
+        byte[] original = Files.readAllBytes(onlySegment());
+        Random random = new Random(42);
+
+        for (int run = 0; run < 50; run++) {
+            Path segment = onlySegment();
+            Files.write(segment, original);
+            int cut = random.nextInt(ends.get(ends.size() - 1) + 1);
+            cutAt(segment, cut);
+            int intact = (int) ends.stream().filter(end -> end <= cut).count();
+
+            List<LogRecord> replayed = new ArrayList<>();
+            try (WriteAheadLog log = open(replayed)) {
+                assertEquals(intact, replayed.size(), "cut at " + cut);
+                assertEquals(intact, log.lastLsn());
+            }
+        }
+    }
+
+    @Test
+    void recoverShouldDropTheLastRecordWhenItsChecksumDoesNotMatch() throws IOException {
+        List<Integer> ends = writeRecords(10);
+        Path segment = onlySegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int offset = ends.get(8) + 20;
+            file.seek(offset);
+            int b = file.read();
+            file.seek(offset);
+            file.write(b ^ 0xFF);
+        }
+
+        List<LogRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(replayed)) {
+            assertEquals(9, replayed.size());
+            assertEquals(9, log.lastLsn());
+        }
+    }
+
+    @Test
+    void appendShouldContinueAfterTheRecoveredPrefix() throws IOException {
+        List<Integer> ends = writeRecords(10);
+        cutAt(onlySegment(), ends.get(4) + 3);
+
+        try (WriteAheadLog log = open(new ArrayList<>())) {
+            assertEquals(6, log.append(LogRecord.delete(List.of("id-0", "id-1"))));
+        }
+
+        List<LogRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog log = open(replayed)) {
+            assertEquals(6, log.lastLsn());
+        }
+        assertEquals(6, replayed.size());
+        assertFalse(replayed.get(5).isPut());
+        assertEquals(List.of("id-0", "id-1"), replayed.get(5).getTaskIds());
+    }
+
+    @Test
+    void appendShouldRollToNewSegmentsAndRecoverAcrossThem() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, FsyncPolicy.GROUP, 0)) {
+            log.recover(0, record -> fail("empty log"));
+            for (int i = 0; i < 2000; i++) {
+                log.awaitDurable(log.append(LogRecord.put(List.of(task(i)))));
+            }
+            assertTrue(log.segmentCount() > 1);
+
+            log.deleteSegmentsThrough(1000);
+            assertTrue(log.segmentCount() > 1);
+        }
+
+        List<Long> lsns = new ArrayList<>();
+        try (WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, FsyncPolicy.GROUP, 0)) {
+            long[] next = {1001};
+            log.recover(1000, record -> lsns.add(next[0]++));
+            assertEquals(2000, log.lastLsn());
+        }
+        assertEquals(1000, lsns.size());
+    }
+
+    @Test
+    void recoverShouldFailWhenAnEarlierSegmentIsCorrupt() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, FsyncPolicy.ALWAYS, 0)) {
+            log.recover(0, record -> { });
+            for (int i = 0; i < 2000; i++) {
+                log.append(LogRecord.put(List.of(task(i))));
+            }
+        }
+        Path first;
+        try (Stream<Path> files = Files.list(directory)) {
+            first = files.sorted().findFirst().orElseThrow();
+        }
+        cutAt(first, 100);
+
+        WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, FsyncPolicy.ALWAYS, 0);
+        assertThrows(IllegalStateException.class, () -> log.recover(0, record -> { }));
+    }
+
+    @Test
+    void appendShouldBeRefusedOnceABackgroundSyncHasFailed() throws Exception {
+        WriteAheadLog log = new WriteAheadLog(directory, SEGMENT_SIZE, FsyncPolicy.INTERVAL, 1) {
+            @Override
+            void force(MappedByteBuffer target, int from, int length) {
+                throw new UncheckedIOException(new IOException("Input/output error"));
+            }
+        };
+        log.recover(0, record -> { });
+
+        // Under INTERVAL the append is acknowledged at once; the failing flush only shows up on a later one
+        IllegalStateException refused = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (int i = 0; refused == null && System.nanoTime() < deadline; i++) {
+            try {
+                log.append(LogRecord.put(List.of(task(i))));
+            } catch (IllegalStateException e) {
+                refused = e;
+            }
+            Thread.sleep(1);
+        }
+
+        assertNotNull(refused);
+        assertInstanceOf(UncheckedIOException.class, refused.getCause());
+        assertTrue(log.syncFailures() > 0);
+        assertThrows(IllegalStateException.class, log::close);
+    }
+
+    @Test
+    void failedForceUnderAlwaysShouldTakeTheRecordBackAndRefuseLaterWrites() throws IOException {
+        WriteAheadLog log = failingOnForce(FsyncPolicy.ALWAYS, 2);
+        log.recover(0, record -> { });
+        assertEquals(1, log.append(LogRecord.put(List.of(task(1)))));
+
+        assertThrows(UncheckedIOException.class, () -> log.append(LogRecord.put(List.of(task(2)))));
+
+        assertEquals(1, log.lastLsn());
+        assertEquals(1, log.syncFailures());
+        assertThrows(IllegalStateException.class, () -> log.append(LogRecord.put(List.of(task(3)))));
+        assertThrows(IllegalStateException.class, log::sync);
+        assertThrows(IllegalStateException.class, log::close);
+        assertEquals(List.of("id-1"), replayedIds());
+    }
+
+    @Test
+    void failedGroupCommitShouldFailEveryWaiterEvenWhenALaterForceWouldSucceed() throws IOException {
+        WriteAheadLog log = failingOnForce(FsyncPolicy.GROUP, 2);
+        log.recover(0, record -> { });
+        long first = log.append(LogRecord.put(List.of(task(1))));
+        log.awaitDurable(first);
+        long second = log.append(LogRecord.put(List.of(task(2))));
+        long third = log.append(LogRecord.put(List.of(task(3))));
+
+        // One force covers both waiting records, and it fails
+        assertThrows(UncheckedIOException.class, () -> log.awaitDurable(second));
+
+        // The next force would go through, but that says nothing about the pages the failed one couldn't write
+        assertThrows(IllegalStateException.class, () -> log.awaitDurable(third));
+        assertThrows(IllegalStateException.class, () -> log.append(LogRecord.put(List.of(task(4)))));
+        assertEquals(first, log.lastLsn());
+        assertEquals(1, log.syncFailures());
+        assertThrows(IllegalStateException.class, log::close);
+        assertEquals(List.of("id-1"), replayedIds());
+    }
+
+    // Only the failingForce-th force of the log fails, like a disk that reports one write error
+    private WriteAheadLog failingOnForce(FsyncPolicy fsyncPolicy, int failingForce) {
+        AtomicInteger forces = new AtomicInteger();
+        return new WriteAheadLog(directory, SEGMENT_SIZE, fsyncPolicy, 0) {
+            @Override
+            void force(MappedByteBuffer target, int from, int length) {
+                if (forces.incrementAndGet() == failingForce) {
+                    throw new UncheckedIOException(new IOException("Input/output error"));
+                }
+                super.force(target, from, length);
+            }
+        };
+    }
+
+    private List<String> replayedIds() throws IOException {
+        List<LogRecord> replayed = new ArrayList<>();
+        open(replayed).close();
+        return replayed.stream().flatMap(record -> record.getTasks().stream()).map(TaskModel::getId).toList();
+    }
+}